@@ -0,0 +1,75 @@
+package wonjun.stiky.auth.config;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.util.SerializationUtils;
+
+/**
+ * Redis 에 저장하는 OAuth2 인가 요청의 직렬화 비용
+ * - legacy*: 이전 방식 (JDK 직렬화 + Base64 문자열)
+ * - codec*: OAuth2AuthorizationRequestCodec
+ * 항목 크기는 setUp 에서 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthorizationRequestSerializationBenchmark {
+
+    private OAuth2AuthorizationRequest authorizationRequest;
+    private String legacyEncoded;
+    private byte[] codecEncoded;
+
+    @Setup
+    public void setUp() {
+        authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("test-client-id.apps.googleusercontent.com")
+                .redirectUri("https://stiky-api-mh6lf6mzkq-du.a.run.app/login/oauth2/code/google")
+                .scopes(Set.of("email", "profile"))
+                .state("b2x5bXBpYy1zdGF0ZS12YWx1ZS1mb3ItYmVuY2htYXJr")
+                .additionalParameters(Map.of("nonce", "n-0S6_WzA2Mj"))
+                .attributes(Map.of("registration_id", "google", "nonce", "n-0S6_WzA2Mj"))
+                .build();
+        legacyEncoded = legacyEncode();
+        codecEncoded = codecEncode();
+
+        System.out.printf("%nentry size: legacy=%d bytes, codec=%d bytes%n",
+                legacyEncoded.length(), codecEncoded.length);
+    }
+
+    @Benchmark
+    public String legacyEncode() {
+        return Base64.getEncoder().encodeToString(SerializationUtils.serialize(authorizationRequest));
+    }
+
+    @Benchmark
+    public Object legacyDecode() {
+        return SerializationUtils.deserialize(Base64.getDecoder().decode(legacyEncoded));
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return OAuth2AuthorizationRequestCodec.encode(authorizationRequest);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest codecDecode() {
+        return OAuth2AuthorizationRequestCodec.decode(codecEncoded);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest codecDecodeLegacyEntry() {
+        return OAuth2AuthorizationRequestCodec.decode(legacyEncoded.getBytes());
+    }
+
+}
@@ -0,0 +1,86 @@
+package wonjun.stiky.auth.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.Key;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import wonjun.stiky.auth.controller.dto.TokenDto;
+import wonjun.stiky.member.domain.MemberPrincipal;
+
+/**
+ * 요청 한 건당 JWT 처리 비용
+ * - legacyValidateThenGetEmail: 파서를 매번 만들고 두 번 검증하던 이전 방식
+ * - verify: 공유 파서 + 검증 캐시 (cacheSize=0 이면 캐시 없이 한 번만 검증)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes());
+
+    @Param({"0", "4096"})
+    private int cacheSize;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private Key key;
+    private MemberPrincipal member;
+    private String accessToken;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, cacheSize, new SimpleMeterRegistry());
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+        member = new MemberPrincipal(1L, "bench@example.com", "ROLE_USER", 0);
+        accessToken = jwtTokenProvider.generateToken(member).getAccessToken();
+
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + accessToken);
+    }
+
+    @Benchmark
+    public TokenDto generateToken() {
+        return jwtTokenProvider.generateToken(member);
+    }
+
+    @Benchmark
+    public String legacyValidateThenGetEmail() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken);
+        return Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(accessToken).getBody().getSubject();
+    }
+
+    @Benchmark
+    public Object verify() {
+        return jwtTokenProvider.verify(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String getEmail() {
+        return jwtTokenProvider.getEmail(accessToken);
+    }
+
+    @Benchmark
+    public String resolveToken() {
+        return jwtTokenProvider.resolveToken(request);
+    }
+
+}
@@ -0,0 +1,56 @@
+package wonjun.stiky.auth.config;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 소셜 로그인 제공자별 사용자 정보 파싱 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OAuthAttributesBenchmark {
+
+    private final Map<String, Object> google = Map.of(
+            "sub", "109876543210987654321",
+            "name", "원준",
+            "email", "google@example.com",
+            "email_verified", true,
+            "picture", "https://lh3.googleusercontent.com/a/photo.jpg");
+
+    private final Map<String, Object> kakao = Map.of(
+            "id", 3141592653L,
+            "kakao_account", Map.of(
+                    "email", "kakao@example.com",
+                    "profile", Map.of("nickname", "원준")));
+
+    private final Map<String, Object> naver = Map.of(
+            "resultcode", "00",
+            "message", "success",
+            "response", Map.of(
+                    "id", "naver-unique-id",
+                    "name", "원준",
+                    "email", "naver@example.com"));
+
+    @Benchmark
+    public OAuthAttributes google() {
+        return OAuthAttributes.of("google", "sub", google);
+    }
+
+    @Benchmark
+    public OAuthAttributes kakao() {
+        return OAuthAttributes.of("kakao", "id", kakao);
+    }
+
+    @Benchmark
+    public OAuthAttributes naver() {
+        return OAuthAttributes.of("naver", "response", naver);
+    }
+
+}
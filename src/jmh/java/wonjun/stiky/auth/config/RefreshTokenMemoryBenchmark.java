@@ -0,0 +1,88 @@
+package wonjun.stiky.auth.config;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import wonjun.stiky.auth.controller.dto.TokenDto;
+import wonjun.stiky.member.domain.Member;
+
+/**
+ * 리프레시 토큰 저장 형식별 Redis 메모리 사용량
+ * - legacy: RT:<이메일> = 토큰 원문
+ * - digest: RT:<회원 ID> = SHA-256 다이제스트 (RedisTokenStore)
+ * 로컬 Redis 의 DB 15 를 비우고 사용하므로 운영 Redis 에 연결하지 말 것
+ * 실행: java -cp <jmh classpath> wonjun.stiky.auth.config.RefreshTokenMemoryBenchmark [redis-uri] [sessions]
+ */
+public class RefreshTokenMemoryBenchmark {
+
+    private static final Pattern USED_MEMORY = Pattern.compile("used_memory:(\\d+)");
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("benchmark-secret-key-that-is-long-enough-for-hs256".getBytes());
+
+    public static void main(String[] args) {
+        String uri = args.length > 0 ? args[0] : "redis://localhost:6379/15";
+        int sessions = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 0, new SimpleMeterRegistry());
+        List<String> emails = new ArrayList<>(sessions);
+        List<String> refreshTokens = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            String email = "member-" + i + "@example.com";
+            Member member = Member.builder()
+                    .id((long) i)
+                    .email(email)
+                    .role("ROLE_USER")
+                    .securityVersion(0)
+                    .build();
+            TokenDto tokenDto = jwtTokenProvider.generateToken(member.toPrincipal());
+            emails.add(email);
+            refreshTokens.add(tokenDto.getRefreshToken());
+        }
+
+        RedisClient client = RedisClient.create(uri);
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            RedisCommands<String, String> redis = connection.sync();
+
+            long legacy = measure(redis, () -> {
+                for (int i = 0; i < sessions; i++) {
+                    redis.setex("RT:" + emails.get(i), 604800, refreshTokens.get(i));
+                }
+            });
+            long digest = measure(redis, () -> {
+                for (int i = 0; i < sessions; i++) {
+                    redis.setex("RT:" + i, 604800, RedisTokenStore.digest(refreshTokens.get(i)));
+                }
+            });
+
+            System.out.printf("sessions=%d, legacy=%d bytes (%.1f/session), digest=%d bytes (%.1f/session), saved=%.1f%%%n",
+                    sessions, legacy, (double) legacy / sessions, digest, (double) digest / sessions,
+                    100.0 * (legacy - digest) / legacy);
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    private static long measure(RedisCommands<String, String> redis, Runnable load) {
+        redis.flushdb();
+        long before = usedMemory(redis);
+        load.run();
+        long after = usedMemory(redis);
+        redis.flushdb();
+        return after - before;
+    }
+
+    private static long usedMemory(RedisCommands<String, String> redis) {
+        Matcher matcher = USED_MEMORY.matcher(redis.info("memory"));
+        if (!matcher.find()) {
+            throw new IllegalStateException("used_memory not found");
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+}
@@ -0,0 +1,112 @@
+package wonjun.stiky.auth.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import wonjun.stiky.auth.controller.dto.TokenDto;
+import wonjun.stiky.global.exception.CustomException;
+import wonjun.stiky.global.exception.ErrorCode;
+import wonjun.stiky.global.redis.RedisNearCache;
+import wonjun.stiky.member.domain.MemberPrincipal;
+
+/**
+ * TokenStore 구현별 로그인·재발급 지연 (AuthService 와 같은 순서, 회원 조회와 BCrypt 는 제외)
+ * - login: 토큰 발급 + saveRefreshToken
+ * - reissue: 리프레시 토큰 검증 + 토큰 발급 + rotateRefreshToken
+ * - memory: InMemoryTokenStore (힙 버퍼), redis: RedisTokenStore (Redis 컨테이너, 같은 호스트라 실제 네트워크보다 왕복이 짧음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenStoreBenchmark {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("benchmark-secret-key-that-is-long-enough-for-hs256".getBytes());
+
+    @Param({"memory", "redis"})
+    private String backend;
+
+    private GenericContainer<?> redis;
+    private LettuceConnectionFactory connectionFactory;
+    private TokenStore tokenStore;
+    private JwtTokenProvider jwtTokenProvider;
+    private MemberPrincipal member;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 0, meterRegistry);
+        member = new MemberPrincipal(1L, "bench@example.com", "ROLE_USER", 0);
+
+        if (backend.equals("memory")) {
+            tokenStore = new InMemoryTokenStore(meterRegistry, false, Duration.ofSeconds(1), 100_000, 10_000, 1000,
+                    4096);
+        } else {
+            redis = new GenericContainer<>("redis:latest").withExposedPorts(6379);
+            redis.start();
+            connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+            connectionFactory.afterPropertiesSet();
+            tokenStore = new RedisTokenStore(template(new StringRedisSerializer()),
+                    template(RedisSerializer.byteArray()),
+                    new RedisNearCache(connectionFactory, meterRegistry, false, List.of(), 0),
+                    meterRegistry);
+        }
+
+        TokenDto tokenDto = jwtTokenProvider.generateToken(member);
+        tokenStore.saveRefreshToken(member.id(), tokenDto.getRefreshToken());
+        refreshToken = tokenDto.getRefreshToken();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (redis != null) {
+            connectionFactory.destroy();
+            redis.stop();
+        }
+    }
+
+    @Benchmark
+    public TokenDto login() {
+        TokenDto tokenDto = jwtTokenProvider.generateToken(member);
+        tokenStore.saveRefreshToken(member.id(), tokenDto.getRefreshToken());
+        return tokenDto;
+    }
+
+    @Benchmark
+    public TokenDto reissue() {
+        jwtTokenProvider.verify(refreshToken).orElseThrow(() -> new CustomException(ErrorCode.INVALID_TOKEN));
+        TokenDto tokenDto = jwtTokenProvider.generateToken(member);
+        if (!tokenStore.rotateRefreshToken(member.id(), member.email(), refreshToken, tokenDto.getRefreshToken())) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        refreshToken = tokenDto.getRefreshToken();
+        return tokenDto;
+    }
+
+    private <V> RedisTemplate<String, V> template(RedisSerializer<?> valueSerializer) {
+        RedisTemplate<String, V> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(valueSerializer);
+        template.afterPropertiesSet();
+        return template;
+    }
+
+}
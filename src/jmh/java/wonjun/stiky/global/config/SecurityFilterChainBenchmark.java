@@ -0,0 +1,116 @@
+package wonjun.stiky.global.config;
+
+import jakarta.servlet.Filter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import wonjun.stiky.StikyApplication;
+import wonjun.stiky.auth.config.JwtTokenProvider;
+import wonjun.stiky.member.domain.Member;
+import wonjun.stiky.member.service.MemberQueryService;
+
+/**
+ * 요청 한 건이 보안 필터 체인을 통과하는 비용 (컨트롤러는 호출하지 않음), MySQL·Redis 컨테이너 대상
+ * - docs: 문서·정적 자원 체인 (publicFilterChain)
+ * - auth: 로그인·토큰 교환 체인 (authFilterChain)
+ * - api-anonymous: API 체인에 Bearer 헤더 없이 들어온 요청 (JwtAuthenticationFilter 는 건너뜀, 인가 단계에서 거부)
+ * - api-bearer: API 체인에 유효한 액세스 토큰으로 들어온 요청 (검증 캐시가 채워진 상태)
+ * 체인을 나누기 전에는 docs·auth 요청도 api-anonymous 와 같은 필터를 모두 거쳤음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SecurityFilterChainBenchmark {
+
+    @Param({"docs", "auth", "api-anonymous", "api-bearer"})
+    private String chain;
+
+    private MySQLContainer<?> mysql;
+    private GenericContainer<?> redis;
+    private ConfigurableApplicationContext context;
+    private Filter springSecurityFilterChain;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        mysql = new MySQLContainer<>("mysql:8.0");
+        redis = new GenericContainer<>("redis:latest").withExposedPorts(6379);
+        mysql.start();
+        redis.start();
+
+        context = new SpringApplicationBuilder(StikyApplication.class).run(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.datasource.url=" + mysql.getJdbcUrl(),
+                "--spring.datasource.username=" + mysql.getUsername(),
+                "--spring.datasource.password=" + mysql.getPassword(),
+                "--spring.data.redis.host=" + redis.getHost(),
+                "--spring.data.redis.port=" + redis.getMappedPort(6379),
+                "--jwt.secret=VGhpcyBpcyBhIGRhbW4gbG9uZyBzZWNyZXQga2V5IGZvciB0ZXN0aW5nIG9ubHk=",
+                "--spring.security.oauth2.client.registration.google.client-id=bench-client-id",
+                "--spring.security.oauth2.client.registration.google.client-secret=bench-client-secret",
+                "--openapi.server-url=http://localhost:8080",
+                "--openapi.client-url=http://localhost:5173",
+                "--cors.allowed-origins=http://localhost:5173",
+                "--cookie.domain=localhost",
+                "--logging.level.root=WARN");
+        springSecurityFilterChain = context.getBean("springSecurityFilterChain", Filter.class);
+
+        MemberQueryService memberQueryService = context.getBean(MemberQueryService.class);
+        memberQueryService.save(Member.builder()
+                .email("bench@example.com")
+                .password("password")
+                .nickname("벤치마크")
+                .role("ROLE_ADMIN")
+                .provider("local")
+                .build());
+        accessToken = context.getBean(JwtTokenProvider.class)
+                .generateToken(memberQueryService.fetchByEmail("bench@example.com").principal())
+                .getAccessToken();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        redis.stop();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public int filter() throws Exception {
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        springSecurityFilterChain.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+
+    private MockHttpServletRequest request() {
+        return switch (chain) {
+            case "docs" -> new MockHttpServletRequest("GET", "/docs/openapi3.yaml");
+            case "auth" -> new MockHttpServletRequest("POST", "/api/auth/login");
+            case "api-anonymous" -> new MockHttpServletRequest("GET", "/api/admin/members/export");
+            case "api-bearer" -> {
+                MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/members/export");
+                request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+                yield request;
+            }
+            default -> throw new IllegalArgumentException(chain);
+        };
+    }
+
+}
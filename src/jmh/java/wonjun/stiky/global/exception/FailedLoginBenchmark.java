@@ -0,0 +1,85 @@
+package wonjun.stiky.global.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 실패한 로그인 한 건의 예외 처리 비용 (없는 회원, 시도 제한처럼 BCrypt 전에 끝나는 실패)
+ * - legacy: 스택 트레이스를 채우는 예외 + 요청마다 ErrorResponse 생성·직렬화
+ * - current: 스택 트레이스 없는 CustomException + 미리 직렬화한 응답
+ * - depth 는 예외가 던져지는 지점의 호출 깊이 (Tomcat → 필터 → 컨트롤러 → 서비스는 보통 100 전후)
+ * - 로그 출력 비용은 제외 (이전 방식은 매번 ERROR 로그를 남겼으므로 실제 차이는 더 큼)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FailedLoginBenchmark {
+
+    @Param({"32", "128"})
+    private int depth;
+
+    private ObjectMapper objectMapper;
+    private GlobalExceptionHandler handler;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        handler = new GlobalExceptionHandler(objectMapper, new SimpleMeterRegistry(), Duration.ofSeconds(10), 0);
+    }
+
+    @Benchmark
+    public byte[] legacy() throws Exception {
+        try {
+            throwAt(depth, true);
+            throw new IllegalStateException();
+        } catch (LegacyCustomException e) {
+            ResponseEntity<ErrorResponse> response = ErrorResponse.toResponseEntity(e.errorCode);
+            return objectMapper.writeValueAsBytes(response.getBody());
+        }
+    }
+
+    @Benchmark
+    public byte[] current() {
+        try {
+            throwAt(depth, false);
+            throw new IllegalStateException();
+        } catch (CustomException e) {
+            return handler.handleCustomException(e).getBody();
+        }
+    }
+
+    private static void throwAt(int depth, boolean legacy) throws LegacyCustomException {
+        if (depth > 0) {
+            throwAt(depth - 1, legacy);
+            return;
+        }
+        if (legacy) {
+            throw new LegacyCustomException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+        throw new CustomException(ErrorCode.MEMBER_NOT_FOUND);
+    }
+
+    // 변경 전 CustomException 과 같은 방식 (생성 시 스택 트레이스를 채움)
+    private static final class LegacyCustomException extends Exception {
+
+        private final ErrorCode errorCode;
+
+        LegacyCustomException(ErrorCode errorCode) {
+            super(errorCode.getMessage());
+            this.errorCode = errorCode;
+        }
+
+    }
+
+}
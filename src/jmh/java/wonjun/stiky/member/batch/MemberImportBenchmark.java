@@ -0,0 +1,102 @@
+package wonjun.stiky.member.batch;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import wonjun.stiky.StikyApplication;
+
+/**
+ * MemberImportService 처리량 (rows/s), MySQL·Redis 컨테이너 대상
+ * - 애플리케이션 컨텍스트로 띄워 청크마다의 회원 캐시 무효화까지 포함해 측정
+ * - hashed: 기존 시스템에서 해싱된 값을 그대로 가져오는 경우
+ * - plain: 평문을 가져오면서 해싱하는 경우 (BCrypt 비용 4, 운영 비용에서는 해싱이 지배적)
+ * 실행: ./gradlew memberImportBenchmark (-PimportRows=200000 -PimportChunkSize=1000)
+ * 결과는 실행 간 비교를 위해 출력과 함께 [results-file] 에도 남김 (기본 build/results/jmh/member-import.txt)
+ */
+public class MemberImportBenchmark {
+
+    private static final String PRE_HASHED = new BCryptPasswordEncoder(4).encode("password");
+
+    public static void main(String[] args) throws IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int chunkSize = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        Path resultsFile = Path.of(args.length > 2 ? args[2] : "build/results/jmh/member-import.txt");
+        Files.createDirectories(resultsFile.toAbsolutePath().getParent());
+        List<String> results = new ArrayList<>();
+
+        try (MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+             GenericContainer<?> redis = new GenericContainer<>("redis:latest").withExposedPorts(6379)) {
+            mysql.start();
+            redis.start();
+
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StikyApplication.class).run(
+                    "--server.port=0",
+                    "--management.server.port=0",
+                    "--spring.datasource.url=" + mysql.getJdbcUrl(),
+                    "--spring.datasource.username=" + mysql.getUsername(),
+                    "--spring.datasource.password=" + mysql.getPassword(),
+                    "--spring.data.redis.host=" + redis.getHost(),
+                    "--spring.data.redis.port=" + redis.getMappedPort(6379),
+                    "--jwt.secret=VGhpcyBpcyBhIGRhbW4gbG9uZyBzZWNyZXQga2V5IGZvciB0ZXN0aW5nIG9ubHk=",
+                    "--spring.security.oauth2.client.registration.google.client-id=bench-client-id",
+                    "--spring.security.oauth2.client.registration.google.client-secret=bench-client-secret",
+                    "--openapi.server-url=http://localhost:8080",
+                    "--openapi.client-url=http://localhost:5173",
+                    "--cors.allowed-origins=http://localhost:5173",
+                    "--cookie.domain=localhost",
+                    "--password.hash.cost=4",
+                    "--member.import.chunk-size=" + chunkSize,
+                    "--logging.level.root=WARN")) {
+                MemberImportService service = context.getBean(MemberImportService.class);
+
+                results.add(run(service, "hashed", write(rows, "hashed", true)));
+                results.add(run(service, "hashed-duplicates", write(rows, "hashed", true))); // 전부 중복인 재실행
+                results.add(run(service, "plain", write(rows, "plain", false)));
+            }
+        }
+
+        results.add(0, "rows=%d chunk-size=%d java=%s".formatted(rows, chunkSize, Runtime.version()));
+        Files.write(resultsFile, results, StandardCharsets.UTF_8);
+    }
+
+    private static String run(MemberImportService service, String name, Path input) throws IOException {
+        long[] duplicates = {0};
+        MemberImportResult result;
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            result = service.importMembers(reader, MemberFileFormat.NDJSON, email -> duplicates[0]++);
+        }
+        Files.delete(input);
+
+        String line = "%-18s read=%d inserted=%d duplicates=%d elapsed=%dms rows/s=%.0f".formatted(
+                name, result.read(), result.inserted(), result.duplicates(), result.elapsed().toMillis(),
+                result.rowsPerSecond());
+        System.out.println(line);
+        return line;
+    }
+
+    private static Path write(int rows, String prefix, boolean preHashed) throws IOException {
+        Path file = Files.createTempFile("member-import-", ".ndjson");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < rows; i++) {
+                String password = preHashed
+                        ? "\"passwordHash\":\"" + PRE_HASHED + "\""
+                        : "\"password\":\"password-" + i + "\"";
+                writer.write("{\"email\":\"" + prefix + "-" + i + "@example.com\"," + password
+                        + ",\"nickname\":\"member" + i + "\"}");
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+
+}
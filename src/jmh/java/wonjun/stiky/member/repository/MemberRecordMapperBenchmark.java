@@ -0,0 +1,83 @@
+package wonjun.stiky.member.repository;
+
+import static wonjun.stiky.generated.Tables.MEMBER;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jooq.DSLContext;
+import org.jooq.Record4;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import wonjun.stiky.generated.tables.records.MemberRecord;
+import wonjun.stiky.member.domain.Member;
+import wonjun.stiky.member.domain.MemberPrincipal;
+import wonjun.stiky.member.domain.MemberSnapshot;
+
+/**
+ * 회원 조회 결과 매핑 비용 (DB 없이 이미 받아온 결과만 매핑)
+ * - reflective: 이전 방식 fetchInto(Member.class) 와 같은 DefaultRecordMapper 경로
+ * - snapshot: MemberRecordMappers.SNAPSHOT (생성된 getter + 레코드 생성자)
+ * - principal: 4개 컬럼만 조회한 결과를 MemberRecordMappers.PRINCIPAL 로 매핑
+ * 행당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 을 rows 로 나눠서 확인
+ * 실행: ./gradlew jmh -PjmhIncludes=MemberRecordMapper -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemberRecordMapperBenchmark {
+
+    @Param({"1", "100"})
+    private int rows;
+
+    private Result<MemberRecord> members;
+    private Result<Record4<Long, String, String, Integer>> principals;
+
+    @Setup
+    public void setUp() {
+        DSLContext dsl = DSL.using(SQLDialect.MYSQL);
+        members = dsl.newResult(MEMBER);
+        principals = dsl.newResult(MEMBER.ID, MEMBER.EMAIL, MEMBER.ROLE, MEMBER.SECURITY_VERSION);
+
+        for (long id = 1; id <= rows; id++) {
+            MemberRecord member = dsl.newRecord(MEMBER);
+            member.setId(id);
+            member.setEmail("member" + id + "@example.com");
+            member.setPassword("{bcrypt}$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1Z5dLp1l5m6rW0dJ4K2yDGe");
+            member.setNickname("회원" + id);
+            member.setRole("ROLE_USER");
+            member.setProvider("local");
+            member.setSecurityVersion(0);
+            members.add(member);
+
+            Record4<Long, String, String, Integer> principal = dsl.newRecord(MEMBER.ID, MEMBER.EMAIL, MEMBER.ROLE,
+                    MEMBER.SECURITY_VERSION);
+            principal.values(id, member.getEmail(), member.getRole(), 0);
+            principals.add(principal);
+        }
+    }
+
+    @Benchmark
+    public List<Member> reflective() {
+        return members.into(Member.class);
+    }
+
+    @Benchmark
+    public List<MemberSnapshot> snapshot() {
+        return members.map(MemberRecordMappers.SNAPSHOT);
+    }
+
+    @Benchmark
+    public List<MemberPrincipal> principal() {
+        return principals.map(MemberRecordMappers.PRINCIPAL);
+    }
+
+}
@@ -0,0 +1,103 @@
+package wonjun.stiky.auth.config;
+
+import java.time.Duration;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 현재 장비에서 목표 지연시간을 넘지 않는 BCrypt 비용으로 해싱하는 인코더
+ * - 저장 형식: {bcrypt}$2a$<cost>$... (알고리즘 + 비용)
+ * - 접두사 없는 기존 해시도 검증 가능
+ * - 저장된 비용이 목표 비용보다 낮을 때만 upgradeEncoding 이 true 를 반환해 로그인 시 재해싱
+ *   (인스턴스마다 보정 결과가 달라도 높은 쪽으로만 수렴하고 로그인마다 비용이 오가며 재해싱되지 않음)
+ */
+@Slf4j
+public class CalibratedPasswordEncoder implements PasswordEncoder {
+
+    private static final String ENCODING_ID = "bcrypt";
+    private static final String PREFIX = "{" + ENCODING_ID + "}";
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final int cost;
+    private final DelegatingPasswordEncoder delegate;
+
+    public CalibratedPasswordEncoder(int cost) {
+        this.cost = cost;
+        this.delegate = new DelegatingPasswordEncoder(ENCODING_ID,
+                Map.of(ENCODING_ID, new BCryptPasswordEncoder(cost)));
+        this.delegate.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+    }
+
+    /**
+     * fixedCost 가 0 보다 크면 그 비용을 쓰고, 아니면 minCost 부터 비용을 올려가며
+     * 목표 시간 안에 끝나는 가장 큰 비용을 고른다.
+     * 기동 시 측정은 CPU 부스트·공유 CPU 에서 흔들리므로 여러 인스턴스 배포에서는 비용을 고정하는 것을 권장
+     */
+    public static CalibratedPasswordEncoder calibrate(int fixedCost, Duration targetLatency, int minCost,
+                                                      int maxCost) {
+        if (fixedCost > 0) {
+            log.info("password hash cost fixed : cost={}", fixedCost);
+            return new CalibratedPasswordEncoder(fixedCost);
+        }
+
+        new BCryptPasswordEncoder(minCost).encode(CALIBRATION_PASSWORD); // 워밍업
+
+        int selected = minCost;
+        for (int candidate = minCost; candidate <= maxCost; candidate++) {
+            long elapsed = measure(candidate);
+            if (elapsed > targetLatency.toNanos()) {
+                break;
+            }
+            selected = candidate;
+        }
+
+        log.info("password hash cost calibrated : cost={}, target={}ms", selected, targetLatency.toMillis());
+        return new CalibratedPasswordEncoder(selected);
+    }
+
+    private static long measure(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || !encodedPassword.startsWith(PREFIX)) {
+            return true;
+        }
+        return costOf(encodedPassword.substring(PREFIX.length())) < cost;
+    }
+
+    // $2a$10$... 형식에서 비용 추출
+    private int costOf(String bcryptHash) {
+        try {
+            return Integer.parseInt(bcryptHash.substring(4, 6));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+}
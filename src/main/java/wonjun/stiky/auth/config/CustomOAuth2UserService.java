@@ -5,10 +5,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import wonjun.stiky.global.exception.CustomException;
 import wonjun.stiky.member.domain.Member;
+import wonjun.stiky.member.domain.MemberSnapshot;
 import wonjun.stiky.member.service.MemberQueryService;
 
 @Service
@@ -17,7 +19,6 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final MemberQueryService memberQueryService;
 
-    @Transactional
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         OAuth2User oAuth2User = super.loadUser(userRequest);
@@ -31,18 +32,22 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         return oAuth2User;
     }
 
+    // 제공자 계정으로 연결된 회원(PK 조회 한 번)의 이메일·provider 정보가 이미 최신이면 DB 에 쓰지 않고,
+    // 아니면 찾은 회원을 넘겨 저장·연결 (서비스에서 다시 조회하지 않음)
     private void process(OAuthAttributes attributes) {
-        memberQueryService.fetchByEmailOpt(attributes.getEmail())
-                .ifPresentOrElse(
-                        member -> {
-                            member.updateSocialInfo(attributes.getProvider(), attributes.getNameAttributeKey());
-                            memberQueryService.save(member);
-                        },
-                        () -> {
-                            Member member = makeMember(attributes);
-                            memberQueryService.save(member);
-                        }
-                );
+        MemberSnapshot linked = attributes.getProviderSubject() == null ? null : memberQueryService
+                .fetchBySocialIdentity(attributes.getProvider(), attributes.getProviderSubject())
+                .orElse(null);
+        if (linked != null && linked.email().equals(attributes.getEmail())
+                && linked.isSocialInfoUpToDate(attributes.getProvider(), attributes.getProviderSubject())) {
+            return;
+        }
+
+        try {
+            memberQueryService.upsertSocial(makeMember(attributes), linked);
+        } catch (CustomException e) { // 바뀐 이메일이 다른 회원의 것 -> 로그인 실패로 처리
+            throw new OAuth2AuthenticationException(new OAuth2Error(e.getErrorCode().getCode()), e.getMessage());
+        }
     }
 
     private Member makeMember(OAuthAttributes attributes) {
@@ -52,7 +57,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                 .password(UUID.randomUUID().toString()) // 더미 패스워드
                 .role("ROLE_USER")
                 .provider(attributes.getProvider())
-                .providerId(attributes.getNameAttributeKey())
+                .providerId(attributes.getProviderSubject())
                 .build();
     }
 
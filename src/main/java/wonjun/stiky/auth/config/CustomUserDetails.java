@@ -1,35 +1,46 @@
 package wonjun.stiky.auth.config;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
-import wonjun.stiky.member.domain.Member;
+import wonjun.stiky.member.domain.MemberPrincipal;
 
 @Getter
 public class CustomUserDetails implements UserDetails {
 
-    private final Member member;
+    // 역할 종류가 몇 개 안 되므로 요청마다 새로 만들지 않고 역할별로 하나만 사용
+    private static final Map<String, List<GrantedAuthority>> AUTHORITIES = new ConcurrentHashMap<>();
 
-    public CustomUserDetails(Member member) {
+    private final MemberPrincipal member;
+    private final String password; // 토큰 클레임으로 만든 주체는 null
+
+    public CustomUserDetails(MemberPrincipal member, String password) {
         this.member = member;
+        this.password = password;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority(member.getRole()));
+        return authoritiesOf(member.role());
+    }
+
+    public static List<GrantedAuthority> authoritiesOf(String role) {
+        return AUTHORITIES.computeIfAbsent(role, key -> List.of(new SimpleGrantedAuthority(key)));
     }
 
     @Override
     public String getPassword() {
-        return member.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return member.getEmail();
+        return member.email();
     }
 
     @Override
@@ -1,11 +1,13 @@
 package wonjun.stiky.auth.config;
 
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import wonjun.stiky.member.domain.Member;
+import wonjun.stiky.member.domain.MemberPrincipal;
 import wonjun.stiky.member.service.MemberQueryService;
 
 @Service
@@ -13,11 +15,34 @@ import wonjun.stiky.member.service.MemberQueryService;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberQueryService memberQueryService;
+    private final MemberSecurityVersionCache memberSecurityVersionCache;
 
+    @Value("${jwt.stateless-principal}")
+    private boolean statelessPrincipal;
+
+    // JWT 인증 주체용이라 비밀번호 해시는 담지 않음 (비밀번호 확인은 AuthService.login 에서 DB 로 직접)
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        Member member = memberQueryService.fetchByEmail(email);
-        return new CustomUserDetails(member);
+        return new CustomUserDetails(memberQueryService.fetchByEmail(email).principal(), null);
+    }
+
+    /**
+     * 검증된 액세스 토큰으로 인증 주체를 만든다.
+     * stateless 모드에서는 DB 조회 없이 클레임만으로 구성하고, 보안 버전이 바뀐 토큰은 거부한다.
+     */
+    public Optional<UserDetails> loadUserByClaims(JwtClaims claims) {
+        if (!statelessPrincipal) {
+            return Optional.of(loadUserByUsername(claims.subject()));
+        }
+
+        if (!claims.isAccessToken()
+                || !memberSecurityVersionCache.isCurrent(claims.memberId(), claims.securityVersion())) {
+            return Optional.empty();
+        }
+
+        MemberPrincipal member = new MemberPrincipal(claims.memberId(), claims.subject(), claims.role(),
+                claims.securityVersion());
+        return Optional.of(new CustomUserDetails(member, null));
     }
 
 }
@@ -0,0 +1,245 @@
+package wonjun.stiky.auth.config;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import wonjun.stiky.global.exception.CustomException;
+import wonjun.stiky.global.exception.ErrorCode;
+
+/**
+ * 키마다 TTL 이 있는 고정 크기 슬롯 저장소 (InMemoryTokenStore 전용)
+ * - 값은 기동 시 한 번 할당한 버퍼(힙 또는 off-heap)를 slotSize 단위로 나눠 저장하므로 값 메모리는 capacity * slotSize 로 고정
+ * - off-heap 은 값 버퍼에만 해당. 키 인덱스(HashMap·키 문자열·Entry)와 타이머 휠은 힙에 있어 항목 수만큼 힙을 씀
+ * - 만료된 항목은 읽을 때 없는 것으로 보고, 실제 제거는 타이머 휠을 돌리는 sweep 에서 처리
+ * - 휠 버킷은 항목 자체를 잇는 연결 리스트라 지우거나 덮어쓸 때 O(1) 로 빠지고, 휠이 쥐는 메모리도 항목 수를 넘지 않음
+ * - 모든 연산을 잠금 하나로 직렬화해 비교 후 교체·선점·조회 후 삭제가 원자적 (토큰 작업 빈도에서는 경합이 작음)
+ * - 슬롯보다 큰 값은 TOKEN_STORE_ENTRY_TOO_LARGE, 빈 슬롯이 없으면 TOKEN_STORE_FULL
+ */
+final class ExpiringSlotStore {
+
+    private static final int WHEEL_SIZE = 1024; // 2의 거듭제곱
+
+    private final int slotSize;
+    private final ByteBuffer arena;
+    private final Map<String, Entry> index;
+    private final int[] freeSlots;
+    private int freeCount;
+
+    // 타이머 휠: 만료 tick 의 버킷에 항목을 걸어 두고, sweep 은 지나간 tick 의 버킷만 확인
+    private final long tickMillis;
+    private final Entry[] buckets = new Entry[WHEEL_SIZE]; // 버킷마다 원형 리스트의 머리(빈 항목)
+    private long currentTick;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    ExpiringSlotStore(int capacity, int slotSize, boolean offHeap, Duration tick) {
+        int arenaSize = Math.multiplyExact(capacity, slotSize);
+        this.slotSize = slotSize;
+        this.arena = offHeap ? ByteBuffer.allocateDirect(arenaSize) : ByteBuffer.allocate(arenaSize);
+        this.index = new HashMap<>(capacity * 4 / 3 + 1);
+        this.freeSlots = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            freeSlots[i] = capacity - 1 - i;
+        }
+        this.freeCount = capacity;
+
+        this.tickMillis = tick.toMillis();
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            Entry head = new Entry(null, -1, 0, 0);
+            head.prev = head;
+            head.next = head;
+            buckets[i] = head;
+        }
+        this.currentTick = System.currentTimeMillis() / tickMillis;
+    }
+
+    void put(String key, byte[] value, Duration ttl) {
+        checkSize(value); // 기존 항목을 지우기 전에 확인
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            release(index.get(key));
+            insert(key, value, now + ttl.toMillis(), now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 살아 있는 항목이 없을 때만 저장하고 true 를 반환한다.
+     */
+    boolean putIfAbsent(String key, byte[] value, Duration ttl) {
+        checkSize(value);
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (live(key, now) != null) {
+                return false;
+            }
+            insert(key, value, now + ttl.toMillis(), now);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    byte[] get(String key) {
+        lock.lock();
+        try {
+            Entry entry = live(key, System.currentTimeMillis());
+            return entry == null ? null : read(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저장된 값이 expected 와 같을 때만 next 로 교체한다. 비교는 상수 시간.
+     */
+    boolean compareAndSet(String key, byte[] expected, byte[] next, Duration ttl) {
+        checkSize(next);
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            Entry entry = live(key, now);
+            if (entry == null || !MessageDigest.isEqual(read(entry), expected)) {
+                return false;
+            }
+            release(entry);
+            insert(key, next, now + ttl.toMillis(), now);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 항목을 지우고 지우기 전 값을 반환한다.
+     */
+    byte[] remove(String key) {
+        lock.lock();
+        try {
+            Entry entry = live(key, System.currentTimeMillis());
+            if (entry == null) {
+                return null;
+            }
+            byte[] value = read(entry);
+            release(entry);
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 sweep 이후 지나간 tick 의 버킷에서 만료된 항목을 제거한다.
+     */
+    void sweep() {
+        lock.lock();
+        try {
+            sweep(System.currentTimeMillis());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return index.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void sweep(long now) {
+        long targetTick = now / tickMillis;
+        // 휠 한 바퀴 이상 밀렸으면 모든 버킷을 한 번씩만 확인
+        long fromTick = Math.max(currentTick, targetTick - WHEEL_SIZE + 1);
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            Entry head = buckets[(int) (tick & (WHEEL_SIZE - 1))];
+            Entry entry = head.next;
+            while (entry != head) {
+                Entry next = entry.next;
+                if (entry.expiresAt <= now) { // 아니면 다음 바퀴에 만료
+                    release(entry);
+                }
+                entry = next;
+            }
+        }
+        currentTick = targetTick;
+    }
+
+    private void checkSize(byte[] value) {
+        if (value.length > slotSize) {
+            throw new CustomException(ErrorCode.TOKEN_STORE_ENTRY_TOO_LARGE);
+        }
+    }
+
+    private void insert(String key, byte[] value, long expiresAt, long now) {
+        if (freeCount == 0) {
+            sweep(now);
+            if (freeCount == 0) {
+                throw new CustomException(ErrorCode.TOKEN_STORE_FULL);
+            }
+        }
+
+        Entry entry = new Entry(key, freeSlots[--freeCount], value.length, expiresAt);
+        arena.put(entry.slot * slotSize, value);
+        index.put(key, entry);
+
+        long tick = Math.max(Math.ceilDiv(expiresAt, tickMillis), currentTick + 1);
+        Entry head = buckets[(int) (tick & (WHEEL_SIZE - 1))];
+        entry.prev = head.prev;
+        entry.next = head;
+        head.prev.next = entry;
+        head.prev = entry;
+    }
+
+    private Entry live(String key, long now) {
+        Entry entry = index.get(key);
+        if (entry != null && entry.expiresAt <= now) {
+            release(entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private byte[] read(Entry entry) {
+        byte[] value = new byte[entry.length];
+        arena.get(entry.slot * slotSize, value);
+        return value;
+    }
+
+    private void release(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        index.remove(entry.key);
+        entry.prev.next = entry.next;
+        entry.next.prev = entry.prev;
+        freeSlots[freeCount++] = entry.slot;
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private final int slot;
+        private final int length;
+        private final long expiresAt;
+        private Entry prev;
+        private Entry next;
+
+        Entry(String key, int slot, int length, long expiresAt) {
+            this.key = key;
+            this.slot = slot;
+            this.length = length;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
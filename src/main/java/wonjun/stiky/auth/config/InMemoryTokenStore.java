@@ -0,0 +1,108 @@
+package wonjun.stiky.auth.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 내 TokenStore (token-store.type=memory)
+ * - 인스턴스가 하나뿐인 배포·로컬 개발용. 여러 인스턴스에서 쓰면 재발급·코드 교환이 다른 인스턴스에서 실패함
+ * - 종류별 ExpiringSlotStore 에 최대 개수를 두어 메모리 상한이 기동 시 정해짐
+ * - off-heap 을 켜면 값 버퍼만 direct 메모리로 가고, 키 인덱스와 만료 관리는 힙에 남음
+ * - 리프레시 토큰은 SHA-256 다이제스트 32바이트만 저장
+ */
+@Component
+@ConditionalOnProperty(name = "token-store.type", havingValue = "memory")
+public class InMemoryTokenStore implements TokenStore {
+
+    private static final int DIGEST_LENGTH = 32;
+    private static final byte[] CLAIMED = new byte[0];
+    private static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(7);
+
+    private final ExpiringSlotStore refreshTokens;
+    private final ExpiringSlotStore loginCodes;
+    private final ExpiringSlotStore authorizationRequests;
+
+    public InMemoryTokenStore(MeterRegistry meterRegistry,
+                              @Value("${token-store.memory.off-heap}") boolean offHeap,
+                              @Value("${token-store.memory.sweep-interval}") Duration sweepInterval,
+                              @Value("${token-store.memory.max-refresh-tokens}") int maxRefreshTokens,
+                              @Value("${token-store.memory.max-login-codes}") int maxLoginCodes,
+                              @Value("${token-store.memory.max-authorization-requests}") int maxAuthorizationRequests,
+                              @Value("${token-store.memory.authorization-request-max-bytes}") int requestMaxBytes) {
+        this.refreshTokens = new ExpiringSlotStore(maxRefreshTokens, DIGEST_LENGTH, offHeap, sweepInterval);
+        this.loginCodes = new ExpiringSlotStore(maxLoginCodes, 0, offHeap, sweepInterval);
+        this.authorizationRequests = new ExpiringSlotStore(maxAuthorizationRequests, requestMaxBytes, offHeap,
+                sweepInterval);
+
+        meterRegistry.gauge("token.store.entries", Tags.of("store", "refresh_token"), refreshTokens,
+                ExpiringSlotStore::size);
+        meterRegistry.gauge("token.store.entries", Tags.of("store", "login_code"), loginCodes,
+                ExpiringSlotStore::size);
+        meterRegistry.gauge("token.store.entries", Tags.of("store", "authorization_request"), authorizationRequests,
+                ExpiringSlotStore::size);
+    }
+
+    @Override
+    public void saveRefreshToken(Long memberId, String refreshToken) {
+        refreshTokens.put(refreshTokenKey(memberId), digest(refreshToken), REFRESH_TOKEN_TTL);
+    }
+
+    @Override
+    public boolean rotateRefreshToken(Long memberId, String email, String presented, String next) {
+        return refreshTokens.compareAndSet(refreshTokenKey(memberId), digest(presented), digest(next),
+                REFRESH_TOKEN_TTL);
+    }
+
+    @Override
+    public void deleteRefreshToken(Long memberId, String email) {
+        refreshTokens.remove(refreshTokenKey(memberId));
+    }
+
+    @Override
+    public boolean claimLoginCode(String codeId, Duration ttl) {
+        return loginCodes.putIfAbsent(codeId, CLAIMED, ttl);
+    }
+
+    @Override
+    public void saveAuthorizationRequest(String state, byte[] authorizationRequest, Duration ttl) {
+        authorizationRequests.put(state, authorizationRequest, ttl);
+    }
+
+    @Override
+    public byte[] loadAuthorizationRequest(String state) {
+        return authorizationRequests.get(state);
+    }
+
+    @Override
+    public byte[] removeAuthorizationRequest(String state) {
+        return authorizationRequests.remove(state);
+    }
+
+    @Scheduled(fixedDelayString = "${token-store.memory.sweep-interval}")
+    public void sweep() {
+        refreshTokens.sweep();
+        loginCodes.sweep();
+        authorizationRequests.sweep();
+    }
+
+    private String refreshTokenKey(Long memberId) {
+        return String.valueOf(memberId);
+    }
+
+    private static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package wonjun.stiky.auth.config;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT의 클레임 (불변)
+ * - memberId는 액세스·리프레시 토큰 모두에 존재 (리프레시 토큰 저장소 키, 재발급 시 회원 조회)
+ * - role, securityVersion은 액세스 토큰에만 존재. 액세스 토큰 여부는 이 둘로 구분하므로
+ *   isAccessToken()을 memberId만으로 판단하면 리프레시 토큰이 액세스 토큰으로 통과함
+ */
+public record JwtClaims(String subject, Long memberId, String role, Integer securityVersion, Instant expiresAt,
+                        String jti) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean isAccessToken() {
+        return memberId != null && role != null && securityVersion != null;
+    }
+
+}
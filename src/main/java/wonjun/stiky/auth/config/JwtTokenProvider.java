@@ -1,69 +1,139 @@
 package wonjun.stiky.auth.config;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import java.security.Key;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import wonjun.stiky.auth.controller.dto.TokenDto;
+import wonjun.stiky.member.domain.MemberPrincipal;
 
 @Component
 public class JwtTokenProvider {
 
     private final Key key;
+    private final JwtParser parser; // 불변 객체라 스레드 간 공유 가능
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Timer signAccessTimer;
+    private final Timer signRefreshTimer;
+    private final Timer verifyCachedTimer;
+    private final Timer verifyValidTimer;
+    private final Timer verifyInvalidTimer;
     private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 30; // 30분
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 30 * 24 * 7; // 7일
+    private static final String MEMBER_ID_CLAIM = "mid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String SECURITY_VERSION_CLAIM = "sv";
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secret) {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secret,
+                            @Value("${jwt.verify-cache-size}") int verifyCacheSize,
+                            MeterRegistry meterRegistry) {
         byte[] keyBytes = Base64.getDecoder().decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokenCache = new VerifiedTokenCache(verifyCacheSize);
+
+        this.signAccessTimer = meterRegistry.timer("jwt.sign", "token", "access");
+        this.signRefreshTimer = meterRegistry.timer("jwt.sign", "token", "refresh");
+        this.verifyCachedTimer = meterRegistry.timer("jwt.verify", "result", "cached");
+        this.verifyValidTimer = meterRegistry.timer("jwt.verify", "result", "valid");
+        this.verifyInvalidTimer = meterRegistry.timer("jwt.verify", "result", "invalid");
     }
 
-    public TokenDto generateToken(String email, String role) {
+    public TokenDto generateToken(MemberPrincipal member) {
         long now = (new Date()).getTime();
-        String accessToken = generateAccessToken(email, role, now);
-        String refreshToken = generateRefreshToken(email, now);
+        String accessToken = signAccessTimer.record(() -> generateAccessToken(member, now));
+        String refreshToken = signRefreshTimer.record(() -> generateRefreshToken(member, now));
         return TokenDto.from(accessToken, refreshToken);
     }
 
-    private String generateAccessToken(String email, String role, long now) {
+    private String generateAccessToken(MemberPrincipal member, long now) {
         Date accessTokenExpiresIn = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
+        int securityVersion = member.securityVersion() == null ? 0 : member.securityVersion();
         return Jwts.builder()
-                .setSubject(email)
-                .claim("role", role)
+                .setSubject(member.email())
+                .setId(UUID.randomUUID().toString())
+                .claim(MEMBER_ID_CLAIM, member.id())
+                .claim(ROLE_CLAIM, member.role())
+                .claim(SECURITY_VERSION_CLAIM, securityVersion)
                 .setExpiration(accessTokenExpiresIn)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private String generateRefreshToken(String email, long now) {
+    private String generateRefreshToken(MemberPrincipal member, long now) {
         return Jwts.builder()
-                .setSubject(email)
+                .setSubject(member.email())
+                .setId(UUID.randomUUID().toString())
+                .claim(MEMBER_ID_CLAIM, member.id())
                 .setExpiration(new Date(now + REFRESH_TOKEN_EXPIRE_TIME))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String getEmail(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getSubject();
-    }
+    /**
+     * 서명과 만료를 한 번에 검증하고 클레임을 돌려준다.
+     * 유효하지 않은 토큰이면 빈 값을 반환한다.
+     */
+    public Optional<JwtClaims> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        long startedAt = System.nanoTime();
+        Instant now = Instant.now();
+        JwtClaims cached = verifiedTokenCache.get(token, now);
+        if (cached != null) {
+            recordSince(verifyCachedTimer, startedAt);
+            return Optional.of(cached);
+        }
 
-    public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims body = parser.parseClaimsJws(token).getBody();
+            if (body.getExpiration() == null) {
+                recordSince(verifyInvalidTimer, startedAt);
+                return Optional.empty();
+            }
+
+            JwtClaims claims = new JwtClaims(
+                    body.getSubject(),
+                    body.get(MEMBER_ID_CLAIM, Long.class),
+                    body.get(ROLE_CLAIM, String.class),
+                    body.get(SECURITY_VERSION_CLAIM, Integer.class),
+                    body.getExpiration().toInstant(),
+                    body.getId());
+            verifiedTokenCache.put(token, claims);
+            recordSince(verifyValidTimer, startedAt);
+            return Optional.of(claims);
         } catch (JwtException | IllegalArgumentException exception) {
-            return false;
+            recordSince(verifyInvalidTimer, startedAt);
+            return Optional.empty();
         }
     }
 
+    public String getEmail(String token) {
+        return verify(token)
+                .map(JwtClaims::subject)
+                .orElseThrow(() -> new JwtException("유효하지 않은 토큰입니다."));
+    }
+
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
     public String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
@@ -72,4 +142,8 @@ public class JwtTokenProvider {
         return null;
     }
 
+    private void recordSince(Timer timer, long startedAt) {
+        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
 }
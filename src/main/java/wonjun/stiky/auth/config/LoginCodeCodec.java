@@ -0,0 +1,122 @@
+package wonjun.stiky.auth.config;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import wonjun.stiky.member.domain.MemberPrincipal;
+
+/**
+ * OAuth 로그인 직후 프론트엔드로 넘기는 일회용 로그인 코드
+ * - 코드 = Base64url(IV 12바이트 + AES-GCM(회원 ID, 만료 시각) + 인증 태그), 위조·변조된 코드는 복호화 단계에서 거부
+ * - 회원은 교환 시점에 ID 로 찾으므로 이메일은 담지 않음 (그 사이 이메일이 바뀌어도 같은 회원)
+ * - 토큰은 코드를 교환할 때 발급하므로 Redis 에는 IV 로 만든 사용 표식만 남음 (TokenStore.claimLoginCode)
+ * - 암호화 키는 jwt.secret 에서 HMAC-SHA256 으로 파생 (JWT 서명 키와 같은 키를 쓰지 않음)
+ */
+@Component
+public class LoginCodeCodec {
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH = 16;
+    private static final int PAYLOAD_LENGTH = Long.BYTES * 2; // 회원 ID + 만료 시각(epoch 초)
+    private static final int CODE_LENGTH = IV_LENGTH + PAYLOAD_LENGTH + TAG_LENGTH;
+    private static final byte[] KEY_LABEL = "stiky-login-code".getBytes(StandardCharsets.US_ASCII);
+
+    private final SecretKey key;
+    private final SecureRandom random = new SecureRandom();
+
+    @Getter
+    private final Duration ttl;
+
+    public LoginCodeCodec(@Value("${jwt.secret}") String secret,
+                          @Value("${login.code.ttl}") Duration ttl) {
+        this.key = deriveKey(Base64.getDecoder().decode(secret));
+        this.ttl = ttl;
+    }
+
+    public String issue(MemberPrincipal member) {
+        ByteBuffer payload = ByteBuffer.allocate(PAYLOAD_LENGTH)
+                .putLong(member.id())
+                .putLong(Instant.now().plus(ttl).getEpochSecond());
+
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        byte[] code = Arrays.copyOf(iv, CODE_LENGTH);
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, iv));
+            cipher.doFinal(payload.array(), 0, PAYLOAD_LENGTH, code, IV_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(code);
+    }
+
+    /**
+     * 코드를 복호화한다. 형식이 틀리거나 변조되었거나 만료되었으면 빈 값을 반환한다.
+     * 이미 사용된 코드인지는 확인하지 않는다.
+     */
+    public Optional<LoginCode> decode(String code) {
+        if (code == null) {
+            return Optional.empty();
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(code);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (bytes.length != CODE_LENGTH) {
+            return Optional.empty();
+        }
+
+        ByteBuffer payload;
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, bytes, 0, IV_LENGTH));
+            payload = ByteBuffer.wrap(cipher.doFinal(bytes, IV_LENGTH, bytes.length - IV_LENGTH));
+        } catch (GeneralSecurityException e) {
+            return Optional.empty();
+        }
+
+        long memberId = payload.getLong();
+        long expiresAt = payload.getLong();
+        if (Instant.now().getEpochSecond() >= expiresAt) {
+            return Optional.empty();
+        }
+        String id = Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(bytes, IV_LENGTH));
+        return Optional.of(new LoginCode(id, memberId));
+    }
+
+    private static SecretKey deriveKey(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            return new SecretKeySpec(mac.doFinal(KEY_LABEL), "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param id 코드마다 다른 IV (Base64url 16자), 한 번만 교환되도록 표식 키로 사용
+     */
+    public record LoginCode(String id, Long memberId) {
+    }
+
+}
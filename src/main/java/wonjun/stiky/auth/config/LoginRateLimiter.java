@@ -0,0 +1,216 @@
+package wonjun.stiky.auth.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import wonjun.stiky.global.exception.ErrorCode;
+import wonjun.stiky.global.exception.RateLimitException;
+
+/**
+ * 로그인 시도 제한 (이메일, 클라이언트 IP 기준)
+ * - 1단계: 인스턴스 로컬 토큰 버킷 (CAS 한 번, 락 없음). 순간적인 폭주를 Redis 왕복 없이 거절
+ * - 2단계: Redis 슬라이딩 윈도 카운터 (직전·현재 고정 윈도의 가중 합). 인스턴스 전체에 걸친 한도
+ * - IP 를 먼저 확인해 IP 한도에 걸린 시도가 이메일 한도를 소모하지 않도록 함
+ *   (한 IP 에서 이메일만 바꿔 가며 시도해 실제 사용자의 이메일을 잠그는 것을 방지)
+ * - 거절되면 BCrypt 검증 전에 LOGIN_RATE_LIMITED 와 Retry-After 로 응답
+ * - Redis 장애 시에는 로컬 한도만 적용
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final String KEY_PREFIX = "LOGIN_RL:";
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+    private static final Duration IDLE_BUCKET_TTL = Duration.ofMinutes(10);
+
+    // KEYS = 이메일 현재·직전 윈도, IP 현재·직전 윈도
+    // ARGV = 이메일 한도, IP 한도, 윈도 길이(ms), 현재 윈도 경과 시간(ms)
+    // 반환: 0 허용, 1 이메일 한도 초과, 2 IP 한도 초과 (IP 먼저 확인, 허용일 때만 카운트 증가)
+    private static final RedisScript<Long> SLIDING_WINDOW = RedisScript.of("""
+            local window = tonumber(ARGV[3])
+            local weight = (window - tonumber(ARGV[4])) / window
+            local function estimate(current, previous)
+                return tonumber(redis.call('GET', previous) or '0') * weight
+                        + tonumber(redis.call('GET', current) or '0')
+            end
+            if estimate(KEYS[3], KEYS[4]) >= tonumber(ARGV[2]) then
+                return 2
+            end
+            if estimate(KEYS[1], KEYS[2]) >= tonumber(ARGV[1]) then
+                return 1
+            end
+            redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], window * 2)
+            redis.call('INCR', KEYS[3])
+            redis.call('PEXPIRE', KEYS[3], window * 2)
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<String, TokenBucket> buckets;
+    private final Rate emailRate;
+    private final Rate ipRate;
+    private final long windowMillis;
+    private final int emailWindowLimit;
+    private final int ipWindowLimit;
+
+    private final Counter localEmailRejected;
+    private final Counter localIpRejected;
+    private final Counter redisEmailRejected;
+    private final Counter redisIpRejected;
+    private final Counter bcryptSaved;
+
+    public LoginRateLimiter(RedisTemplate<String, Object> redisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${login.rate-limit.local.email-per-minute}") int emailPerMinute,
+                            @Value("${login.rate-limit.local.email-burst}") int emailBurst,
+                            @Value("${login.rate-limit.local.ip-per-minute}") int ipPerMinute,
+                            @Value("${login.rate-limit.local.ip-burst}") int ipBurst,
+                            @Value("${login.rate-limit.local.max-keys}") long maxKeys,
+                            @Value("${login.rate-limit.redis.window}") Duration window,
+                            @Value("${login.rate-limit.redis.email-limit}") int emailWindowLimit,
+                            @Value("${login.rate-limit.redis.ip-limit}") int ipWindowLimit) {
+        this.redisTemplate = redisTemplate;
+        this.emailRate = Rate.of(emailPerMinute, emailBurst);
+        this.ipRate = Rate.of(ipPerMinute, ipBurst);
+        this.windowMillis = window.toMillis();
+        this.emailWindowLimit = emailWindowLimit;
+        this.ipWindowLimit = ipWindowLimit;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(IDLE_BUCKET_TTL) // 이만큼 쉬면 버킷은 어차피 가득 찬 상태
+                .build();
+
+        this.localEmailRejected = meterRegistry.counter("login.rate_limit.rejected", "scope", "email", "tier", "local");
+        this.localIpRejected = meterRegistry.counter("login.rate_limit.rejected", "scope", "ip", "tier", "local");
+        this.redisEmailRejected = meterRegistry.counter("login.rate_limit.rejected", "scope", "email", "tier", "redis");
+        this.redisIpRejected = meterRegistry.counter("login.rate_limit.rejected", "scope", "ip", "tier", "redis");
+        this.bcryptSaved = meterRegistry.counter("login.rate_limit.bcrypt_saved");
+    }
+
+    /**
+     * 로그인 시도 한 번을 허용할지 확인한다. 한도를 넘으면 RateLimitException 을 던진다.
+     */
+    public void acquire(String email, String clientIp) {
+        String emailKey = "email:" + email.toLowerCase(Locale.ROOT);
+        String ipKey = "ip:" + clientIp;
+        long now = System.nanoTime();
+
+        long ipWait = bucket(ipKey).tryAcquire(now, ipRate);
+        if (ipWait > 0) {
+            reject(localIpRejected, TimeUnit.NANOSECONDS.toSeconds(ipWait));
+        }
+        TokenBucket emailBucket = bucket(emailKey);
+        long emailWait = emailBucket.tryAcquire(now, emailRate);
+        if (emailWait > 0) {
+            reject(localEmailRejected, TimeUnit.NANOSECONDS.toSeconds(emailWait));
+        }
+
+        long epochMillis = System.currentTimeMillis();
+        long windowIndex = epochMillis / windowMillis;
+        long elapsed = epochMillis % windowMillis;
+
+        Long result;
+        try {
+            result = redisTemplate.execute(SLIDING_WINDOW,
+                    List.of(windowKey(emailKey, windowIndex), windowKey(emailKey, windowIndex - 1),
+                            windowKey(ipKey, windowIndex), windowKey(ipKey, windowIndex - 1)),
+                    String.valueOf(emailWindowLimit), String.valueOf(ipWindowLimit),
+                    String.valueOf(windowMillis), String.valueOf(elapsed));
+        } catch (DataAccessException e) {
+            log.warn("login rate limit check failed : {}", e.getMessage());
+            return;
+        }
+
+        // 다음 윈도로 넘어가면 직전 윈도 가중치가 줄어들므로 그때 다시 시도하도록 안내
+        long retryAfter = TimeUnit.MILLISECONDS.toSeconds(windowMillis - elapsed);
+        if (result != null && result == 2L) {
+            emailBucket.refund(emailRate); // IP 한도로 거절된 시도는 이메일 한도에서 빼지 않음
+            reject(redisIpRejected, retryAfter);
+        }
+        if (result != null && result == 1L) {
+            reject(redisEmailRejected, retryAfter);
+        }
+    }
+
+    /**
+     * 프록시(Cloud Run, 로드밸런서)가 덧붙인 마지막 X-Forwarded-For 값을 사용한다.
+     * 앞쪽 값은 클라이언트가 임의로 넣을 수 있으므로 신뢰하지 않는다.
+     */
+    public static String clientIp(HttpServletRequest request) {
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            String last = forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+            if (!last.isEmpty()) {
+                return last;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private TokenBucket bucket(String key) {
+        return buckets.get(key, ignored -> new TokenBucket());
+    }
+
+    private void reject(Counter counter, long retryAfterSeconds) {
+        counter.increment();
+        bcryptSaved.increment();
+        throw new RateLimitException(ErrorCode.LOGIN_RATE_LIMITED, Math.max(1, retryAfterSeconds));
+    }
+
+    private String windowKey(String key, long windowIndex) {
+        return KEY_PREFIX + key + ":" + windowIndex;
+    }
+
+    private record Rate(long intervalNanos, long burstToleranceNanos) {
+
+        static Rate of(int perMinute, int burst) {
+            long interval = TimeUnit.MINUTES.toNanos(1) / Math.max(perMinute, 1);
+            return new Rate(interval, interval * (Math.max(burst, 1) - 1));
+        }
+
+    }
+
+    /**
+     * GCRA 방식 토큰 버킷. 다음 토큰이 생기는 이론적 시각 하나만 CAS 로 갱신한다.
+     */
+    private static final class TokenBucket {
+
+        private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+        // 허용이면 0, 아니면 다음 토큰까지 남은 시간(ns)
+        long tryAcquire(long now, Rate rate) {
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                long base = Math.max(arrival, now);
+                long ahead = base - now;
+                if (ahead > rate.burstToleranceNanos()) {
+                    return ahead - rate.burstToleranceNanos();
+                }
+                if (theoreticalArrival.compareAndSet(arrival, base + rate.intervalNanos())) {
+                    return 0;
+                }
+            }
+        }
+
+        // 직전 tryAcquire 로 쓴 토큰 하나를 돌려줌
+        void refund(Rate rate) {
+            theoreticalArrival.addAndGet(-rate.intervalNanos());
+        }
+
+    }
+
+}
@@ -0,0 +1,60 @@
+package wonjun.stiky.auth.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import wonjun.stiky.member.service.MemberQueryService;
+
+/**
+ * 회원별 보안 버전(security_version)을 짧은 주기로 캐싱
+ * - 토큰의 sv 클레임과 비교해 권한 변경·계정 잠금을 반영
+ * - 반영 지연은 최대 refresh-interval 이며, 그 사이에는 DB를 조회하지 않음
+ */
+@Component
+public class MemberSecurityVersionCache {
+
+    private static final int MISSING_MEMBER = -1;
+
+    private final MemberQueryService memberQueryService;
+    private final long refreshIntervalNanos;
+    private final int maxSize;
+    private final Map<Long, CachedVersion> versions = new ConcurrentHashMap<>();
+
+    public MemberSecurityVersionCache(MemberQueryService memberQueryService,
+                                      @Value("${jwt.security-version.refresh-interval}") Duration refreshInterval,
+                                      @Value("${jwt.security-version.max-size}") int maxSize) {
+        this.memberQueryService = memberQueryService;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    public boolean isCurrent(Long memberId, int securityVersion) {
+        return currentVersion(memberId) == securityVersion;
+    }
+
+    // 보안 버전을 올린 인스턴스에서는 바로 반영 (다른 인스턴스는 refresh-interval 이내)
+    public void invalidate(Long memberId) {
+        versions.remove(memberId);
+    }
+
+    private int currentVersion(Long memberId) {
+        long now = System.nanoTime();
+        CachedVersion cached = versions.get(memberId);
+        if (cached != null && now - cached.loadedAt() < refreshIntervalNanos) {
+            return cached.version();
+        }
+
+        int version = memberQueryService.fetchSecurityVersion(memberId).orElse(MISSING_MEMBER);
+        if (versions.size() >= maxSize) {
+            versions.clear();
+        }
+        versions.put(memberId, new CachedVersion(version, now));
+        return version;
+    }
+
+    private record CachedVersion(int version, long loadedAt) {
+    }
+
+}
@@ -0,0 +1,158 @@
+package wonjun.stiky.auth.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.util.SerializationUtils;
+
+/**
+ * Redis 에 저장하는 OAuth2 인가 요청 포맷
+ * - VERSION_FIELDS: [version(1)] 이후 필드를 순서대로 기록 (문자열 값만 있는 일반적인 경우)
+ * - VERSION_JDK: 문자열이 아닌 파라미터가 섞인 경우 JDK 직렬화로 대체
+ * - 이전 포맷(JDK 직렬화 + Base64 문자열)도 읽을 수 있음
+ */
+final class OAuth2AuthorizationRequestCodec {
+
+    private static final byte VERSION_JDK = 0;
+    private static final byte VERSION_FIELDS = 1;
+    private static final byte LEGACY_BASE64_PREFIX = 'r'; // JDK 직렬화 헤더(0xACED)의 Base64 첫 글자
+
+    private OAuth2AuthorizationRequestCodec() {
+    }
+
+    static byte[] encode(OAuth2AuthorizationRequest authorizationRequest) {
+        if (!hasOnlyStringValues(authorizationRequest.getAdditionalParameters())
+                || !hasOnlyStringValues(authorizationRequest.getAttributes())) {
+            return encodeJdk(authorizationRequest);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION_FIELDS);
+            out.writeUTF(authorizationRequest.getAuthorizationUri());
+            out.writeUTF(authorizationRequest.getClientId());
+            writeNullable(out, authorizationRequest.getRedirectUri());
+            writeNullable(out, authorizationRequest.getState());
+            writeNullable(out, authorizationRequest.getAuthorizationRequestUri());
+
+            Set<String> scopes = authorizationRequest.getScopes();
+            out.writeShort(scopes.size());
+            for (String scope : scopes) {
+                out.writeUTF(scope);
+            }
+
+            writeMap(out, authorizationRequest.getAdditionalParameters());
+            writeMap(out, authorizationRequest.getAttributes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static OAuth2AuthorizationRequest decode(byte[] encoded) {
+        if (encoded == null || encoded.length == 0) {
+            return null;
+        }
+
+        return switch (encoded[0]) {
+            case VERSION_FIELDS -> decodeFields(encoded);
+            case VERSION_JDK -> (OAuth2AuthorizationRequest) SerializationUtils.deserialize(
+                    Arrays.copyOfRange(encoded, 1, encoded.length));
+            case LEGACY_BASE64_PREFIX -> (OAuth2AuthorizationRequest) SerializationUtils.deserialize(
+                    Base64.getDecoder().decode(new String(encoded, StandardCharsets.US_ASCII)));
+            default -> null;
+        };
+    }
+
+    private static OAuth2AuthorizationRequest decodeFields(byte[] encoded) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded, 1, encoded.length - 1))) {
+            String authorizationUri = in.readUTF();
+            String clientId = in.readUTF();
+            String redirectUri = readNullable(in);
+            String state = readNullable(in);
+            String authorizationRequestUri = readNullable(in);
+
+            int scopeCount = in.readUnsignedShort();
+            Set<String> scopes = new LinkedHashSet<>(scopeCount * 2);
+            for (int i = 0; i < scopeCount; i++) {
+                scopes.add(in.readUTF());
+            }
+
+            Map<String, Object> additionalParameters = readMap(in);
+            Map<String, Object> attributes = readMap(in);
+
+            OAuth2AuthorizationRequest.Builder builder = OAuth2AuthorizationRequest.authorizationCode()
+                    .authorizationUri(authorizationUri)
+                    .clientId(clientId)
+                    .redirectUri(redirectUri)
+                    .scopes(scopes)
+                    .state(state)
+                    .additionalParameters(additionalParameters)
+                    .attributes(attributes);
+            if (authorizationRequestUri != null) {
+                builder.authorizationRequestUri(authorizationRequestUri);
+            }
+            return builder.build();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static byte[] encodeJdk(OAuth2AuthorizationRequest authorizationRequest) {
+        byte[] serialized = Objects.requireNonNull(SerializationUtils.serialize(authorizationRequest));
+        byte[] encoded = new byte[serialized.length + 1];
+        encoded[0] = VERSION_JDK;
+        System.arraycopy(serialized, 0, encoded, 1, serialized.length);
+        return encoded;
+    }
+
+    private static boolean hasOnlyStringValues(Map<String, Object> map) {
+        for (Object value : map.values()) {
+            if (!(value instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+        out.writeShort(map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeUTF((String) entry.getValue());
+        }
+    }
+
+    private static Map<String, Object> readMap(DataInputStream in) throws IOException {
+        int size = in.readUnsignedShort();
+        Map<String, Object> map = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            map.put(in.readUTF(), in.readUTF());
+        }
+        return map;
+    }
+
+}
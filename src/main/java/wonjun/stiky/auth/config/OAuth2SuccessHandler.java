@@ -5,24 +5,22 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
-import wonjun.stiky.auth.controller.dto.TokenDto;
+import wonjun.stiky.member.domain.MemberPrincipal;
+import wonjun.stiky.member.service.MemberQueryService;
 
 @Component
 @RequiredArgsConstructor
 public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final LoginCodeCodec loginCodeCodec;
+    private final MemberQueryService memberQueryService;
     private final RedisOAuth2AuthorizationRequestRepository authorizationRequestRepository;
 
     @Value("${openapi.client-url}")
@@ -35,14 +33,11 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         Map<String, Object> attributes = oAuth2User.getAttributes();
 
         String email = getEmailFromAttributes(attributes);
-        TokenDto tokenDto = jwtTokenProvider.generateToken(email, "ROLE_USER");
-        redisTemplate.opsForValue().set("RT:" + email, tokenDto.getRefreshToken(), 7, TimeUnit.DAYS);
-
+        MemberPrincipal member = memberQueryService.fetchByEmail(email).principal();
         authorizationRequestRepository.removeAuthorizationRequest(request, response);
 
-        String code = UUID.randomUUID().toString();
-        redisTemplate.opsForValue().set("LOGIN_CODE:" + code, tokenDto.getAccessToken(), 60, TimeUnit.SECONDS);
-        redisTemplate.opsForValue().set("LOGIN_CODE:" + code + ":RT", tokenDto.getRefreshToken(), 60, TimeUnit.SECONDS);
+        // 토큰은 프론트엔드가 코드를 교환할 때 발급 (AuthService.redeemLoginCode)
+        String code = loginCodeCodec.issue(member);
 
         String targetUrl = UriComponentsBuilder.fromUriString(url + "/login/callback")
                 .queryParam("code", code)
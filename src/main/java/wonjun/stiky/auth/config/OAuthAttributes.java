@@ -1,6 +1,7 @@
 package wonjun.stiky.auth.config;
 
 import java.util.Map;
+import java.util.Objects;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -12,15 +13,17 @@ public class OAuthAttributes {
     private String name;
     private String email;
     private String provider;
+    private String providerSubject; // 제공자가 발급한 사용자 고유 id (google sub, kakao/naver id)
 
     @Builder
     private OAuthAttributes(Map<String, Object> attributes, String nameAttributeKey, String name, String email,
-                            String provider) {
+                            String provider, String providerSubject) {
         this.attributes = attributes;
         this.nameAttributeKey = nameAttributeKey;
         this.name = name;
         this.email = email;
         this.provider = provider;
+        this.providerSubject = providerSubject;
     }
 
     public static OAuthAttributes of(String registrationId, String userNameAttributeName,
@@ -43,6 +46,7 @@ public class OAuthAttributes {
                 .name((String) response.get("name"))
                 .email((String) response.get("email"))
                 .provider("naver")
+                .providerSubject(Objects.toString(response.get("id"), null))
                 .attributes(response)
                 .nameAttributeKey(userNameAttributeName)
                 .build();
@@ -56,6 +60,7 @@ public class OAuthAttributes {
                 .name((String) profile.get("nickname"))
                 .email((String) kakaoAccount.get("email"))
                 .provider("kakao")
+                .providerSubject(Objects.toString(attributes.get("id"), null)) // 숫자로 내려옴
                 .attributes(attributes)
                 .nameAttributeKey(userNameAttributeName)
                 .build();
@@ -66,6 +71,7 @@ public class OAuthAttributes {
                 .name((String) attributes.get("name"))
                 .email((String) attributes.get("email"))
                 .provider("google")
+                .providerSubject(Objects.toString(attributes.get(userNameAttributeName), null))
                 .attributes(attributes)
                 .nameAttributeKey(userNameAttributeName)
                 .build();
@@ -2,30 +2,42 @@ package wonjun.stiky.auth.config;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.util.Base64;
-import java.util.Objects;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
 import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
 import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
 import org.springframework.stereotype.Component;
-import org.springframework.util.SerializationUtils;
 
 @Component
 @RequiredArgsConstructor
 public class RedisOAuth2AuthorizationRequestRepository implements
         AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
 
-    private static final String KEY_PREFIX = "OAUTH2_AUTH_REQUEST:";
-    private static final long EXPIRE_SECONDS = 180;
+    private static final Duration EXPIRE = Duration.ofSeconds(180);
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    // 콜백 한 번에 load/remove 가 여러 번 호출되므로 요청 단위로 조회 결과를 기억
+    private static final String LOADED_ATTRIBUTE =
+            RedisOAuth2AuthorizationRequestRepository.class.getName() + ".LOADED";
+
+    private final TokenStore tokenStore;
 
     @Override
     public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
-        return findAuthorizationRequest(stateFrom(request));
+        String state = stateFrom(request);
+        if (state == null) {
+            return null;
+        }
+
+        Loaded loaded = loadedFrom(request, state);
+        if (loaded != null) {
+            return loaded.removed() ? null : loaded.authorizationRequest();
+        }
+
+        OAuth2AuthorizationRequest authorizationRequest =
+                OAuth2AuthorizationRequestCodec.decode(tokenStore.loadAuthorizationRequest(state));
+        request.setAttribute(LOADED_ATTRIBUTE, new Loaded(state, authorizationRequest, false));
+        return authorizationRequest;
     }
 
     @Override
@@ -41,8 +53,8 @@ public class RedisOAuth2AuthorizationRequestRepository implements
             return;
         }
 
-        redisTemplate.opsForValue()
-                .set(buildKey(state), serialize(authorizationRequest), EXPIRE_SECONDS, TimeUnit.SECONDS);
+        tokenStore.saveAuthorizationRequest(state, OAuth2AuthorizationRequestCodec.encode(authorizationRequest),
+                EXPIRE);
     }
 
     @Override
@@ -53,19 +65,26 @@ public class RedisOAuth2AuthorizationRequestRepository implements
             return null;
         }
 
-        String key = buildKey(state);
-        Object serialized = redisTemplate.opsForValue().get(key);
-        redisTemplate.delete(key);
-        return deserialize(serialized);
+        Loaded loaded = loadedFrom(request, state);
+        if (loaded != null) {
+            if (!loaded.removed()) {
+                tokenStore.removeAuthorizationRequest(state);
+                request.setAttribute(LOADED_ATTRIBUTE, new Loaded(state, loaded.authorizationRequest(), true));
+            }
+            return loaded.authorizationRequest();
+        }
+
+        OAuth2AuthorizationRequest authorizationRequest =
+                OAuth2AuthorizationRequestCodec.decode(tokenStore.removeAuthorizationRequest(state));
+        request.setAttribute(LOADED_ATTRIBUTE, new Loaded(state, authorizationRequest, true));
+        return authorizationRequest;
     }
 
-    private OAuth2AuthorizationRequest findAuthorizationRequest(String state) {
-        if (state == null) {
-            return null;
+    private Loaded loadedFrom(HttpServletRequest request, String state) {
+        if (request.getAttribute(LOADED_ATTRIBUTE) instanceof Loaded loaded && loaded.state().equals(state)) {
+            return loaded;
         }
-
-        Object serialized = redisTemplate.opsForValue().get(buildKey(state));
-        return deserialize(serialized);
+        return null;
     }
 
     private String stateFrom(HttpServletRequest request) {
@@ -75,22 +94,7 @@ public class RedisOAuth2AuthorizationRequestRepository implements
         return request.getParameter(OAuth2ParameterNames.STATE);
     }
 
-    private String buildKey(String state) {
-        return KEY_PREFIX + state;
-    }
-
-    private String serialize(OAuth2AuthorizationRequest authorizationRequest) {
-        byte[] bytes = Objects.requireNonNull(SerializationUtils.serialize(authorizationRequest));
-        return Base64.getEncoder().encodeToString(bytes);
-    }
-
-    private OAuth2AuthorizationRequest deserialize(Object serialized) {
-        if (!(serialized instanceof String value)) {
-            return null;
-        }
-
-        byte[] bytes = Base64.getDecoder().decode(value);
-        return (OAuth2AuthorizationRequest) SerializationUtils.deserialize(bytes);
+    private record Loaded(String state, OAuth2AuthorizationRequest authorizationRequest, boolean removed) {
     }
 
 }
@@ -0,0 +1,157 @@
+package wonjun.stiky.auth.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import wonjun.stiky.global.redis.RedisNearCache;
+
+/**
+ * Redis 기반 TokenStore (token-store.type=redis, 기본값)
+ * - 각 작업은 Redis 왕복 1회 (단일 명령 또는 Lua 스크립트)
+ * - 작업별 지연시간은 token.store 타이머로 노출
+ * - 리프레시 토큰은 원문 대신 SHA-256 다이제스트(43자)를 RT:<회원 ID> 에 저장
+ * - 이전 형식(RT:<이메일> 에 토큰 원문)은 만료될 때까지 재발급 시 함께 확인 후 새 형식으로 옮김
+ */
+@Component
+@ConditionalOnProperty(name = "token-store.type", havingValue = "redis", matchIfMissing = true)
+public class RedisTokenStore implements TokenStore {
+
+    private static final String REFRESH_TOKEN_PREFIX = "RT:";
+    private static final String LOGIN_CODE_PREFIX = "LOGIN_CODE:";
+    private static final String AUTHORIZATION_REQUEST_PREFIX = "OAUTH2_AUTH_REQUEST:";
+    private static final long REFRESH_TOKEN_EXPIRE_DAYS = 7;
+
+    // 저장된 값이 기대한 토큰일 때만 새 토큰으로 교체 (비교는 상수 시간)
+    // KEYS[1] = RT:<회원 ID>, KEYS[2] = RT:<이메일> (이전 형식)
+    // ARGV[1] = 제시된 토큰 다이제스트, ARGV[2] = 새 토큰 다이제스트, ARGV[3] = TTL(초), ARGV[4] = 제시된 토큰 원문
+    private static final RedisScript<Long> ROTATE_REFRESH_TOKEN = RedisScript.of("""
+            local stored = redis.call('GET', KEYS[1])
+            local expected = ARGV[1]
+            if not stored then
+                stored = redis.call('GET', KEYS[2])
+                expected = ARGV[4]
+            end
+            if (not stored) or (#stored ~= #expected) then
+                return 0
+            end
+            local diff = 0
+            for i = 1, #stored do
+                diff = bit.bor(diff, bit.bxor(string.byte(stored, i), string.byte(expected, i)))
+            end
+            if diff ~= 0 then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+            redis.call('DEL', KEYS[2])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final RedisNearCache redisNearCache;
+    private final Timer saveRefreshTokenTimer;
+    private final Timer rotateRefreshTokenTimer;
+    private final Timer deleteRefreshTokenTimer;
+    private final Timer claimLoginCodeTimer;
+    private final Timer saveAuthorizationRequestTimer;
+    private final Timer loadAuthorizationRequestTimer;
+    private final Timer removeAuthorizationRequestTimer;
+
+    public RedisTokenStore(RedisTemplate<String, Object> redisTemplate,
+                           RedisTemplate<String, byte[]> binaryRedisTemplate,
+                           RedisNearCache redisNearCache,
+                           MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.redisNearCache = redisNearCache;
+        this.saveRefreshTokenTimer = meterRegistry.timer("token.store", "op", "save_refresh_token");
+        this.rotateRefreshTokenTimer = meterRegistry.timer("token.store", "op", "rotate_refresh_token");
+        this.deleteRefreshTokenTimer = meterRegistry.timer("token.store", "op", "delete_refresh_token");
+        this.claimLoginCodeTimer = meterRegistry.timer("token.store", "op", "claim_login_code");
+        this.saveAuthorizationRequestTimer = meterRegistry.timer("token.store", "op", "save_authorization_request");
+        this.loadAuthorizationRequestTimer = meterRegistry.timer("token.store", "op", "load_authorization_request");
+        this.removeAuthorizationRequestTimer = meterRegistry.timer("token.store", "op", "remove_authorization_request");
+    }
+
+    @Override
+    public void saveRefreshToken(Long memberId, String refreshToken) {
+        saveRefreshTokenTimer.record(() -> redisTemplate.opsForValue()
+                .set(refreshTokenKey(memberId), digest(refreshToken), REFRESH_TOKEN_EXPIRE_DAYS, TimeUnit.DAYS));
+    }
+
+    /**
+     * 이전 형식 키(RT:<이메일>)도 함께 확인한다.
+     */
+    @Override
+    public boolean rotateRefreshToken(Long memberId, String email, String presented, String next) {
+        Long rotated = timed(rotateRefreshTokenTimer, () -> redisTemplate.execute(ROTATE_REFRESH_TOKEN,
+                List.of(refreshTokenKey(memberId), REFRESH_TOKEN_PREFIX + email),
+                digest(presented), digest(next), String.valueOf(TimeUnit.DAYS.toSeconds(REFRESH_TOKEN_EXPIRE_DAYS)),
+                presented));
+        return rotated != null && rotated == 1L;
+    }
+
+    /**
+     * 이전 형식 키도 함께 지운다.
+     */
+    @Override
+    public void deleteRefreshToken(Long memberId, String email) {
+        deleteRefreshTokenTimer.record(() -> redisTemplate.delete(
+                List.of(refreshTokenKey(memberId), REFRESH_TOKEN_PREFIX + email)));
+    }
+
+    @Override
+    public boolean claimLoginCode(String codeId, Duration ttl) {
+        Boolean claimed = timed(claimLoginCodeTimer, () -> redisTemplate.opsForValue()
+                .setIfAbsent(LOGIN_CODE_PREFIX + codeId, "1", ttl));
+        return Boolean.TRUE.equals(claimed);
+    }
+
+    @Override
+    public void saveAuthorizationRequest(String state, byte[] authorizationRequest, Duration ttl) {
+        saveAuthorizationRequestTimer.record(() -> binaryRedisTemplate.opsForValue()
+                .set(AUTHORIZATION_REQUEST_PREFIX + state, authorizationRequest, ttl));
+    }
+
+    @Override
+    public byte[] loadAuthorizationRequest(String state) {
+        return timed(loadAuthorizationRequestTimer, () -> redisNearCache.get(AUTHORIZATION_REQUEST_PREFIX + state,
+                binaryRedisTemplate.opsForValue()::get));
+    }
+
+    @Override
+    public byte[] removeAuthorizationRequest(String state) {
+        return timed(removeAuthorizationRequestTimer, () -> binaryRedisTemplate.opsForValue()
+                .getAndDelete(AUTHORIZATION_REQUEST_PREFIX + state));
+    }
+
+    private <T> T timed(Timer timer, Supplier<T> operation) {
+        return timer.record(operation);
+    }
+
+    private String refreshTokenKey(Long memberId) {
+        return REFRESH_TOKEN_PREFIX + memberId;
+    }
+
+    // Base64url(SHA-256) 43자: Redis embstr(44바이트 이하) 인코딩에 들어가는 크기
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,173 @@
+package wonjun.stiky.auth.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import wonjun.stiky.global.redis.RedisNearCache;
+
+/**
+ * 로그아웃 등으로 폐기된 액세스 토큰(jti) 목록
+ * - Redis: REVOKED:<jti>, TTL 은 토큰의 남은 수명
+ * - 인스턴스 로컬: 블룸 필터 + 폐기 알림으로 받은 jti 집합
+ * - 블룸 필터에 걸린 경우에만 Redis 를 조회하므로 대부분의 요청은 네트워크 왕복이 없음
+ * - 필터는 삭제가 안 되므로 시작 시와 주기적으로 Redis 를 SCAN 해 새로 만듦
+ */
+@Slf4j
+@Component
+public class TokenRevocationList implements MessageListener, InitializingBean {
+
+    private static final String KEY_PREFIX = "REVOKED:";
+    private static final String REVOKE_CHANNEL = "TOKEN_REVOKED";
+    private static final int SCAN_COUNT = 1000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisNearCache redisNearCache;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>(); // jti -> 만료 시각(epoch 초)
+    private volatile BloomFilter filter;
+
+    private final Counter bloomNegatives;
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter falsePositives;
+
+    public TokenRevocationList(RedisTemplate<String, Object> redisTemplate,
+                               RedisNearCache redisNearCache,
+                               RedisMessageListenerContainer listenerContainer,
+                               MeterRegistry meterRegistry,
+                               @Value("${jwt.revocation.expected-insertions}") int expectedInsertions,
+                               @Value("${jwt.revocation.false-positive-rate}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.redisNearCache = redisNearCache;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+
+        this.bloomNegatives = meterRegistry.counter("token.revocation.checks", "result", "bloom_negative");
+        this.localHits = meterRegistry.counter("token.revocation.checks", "result", "local_hit");
+        this.redisHits = meterRegistry.counter("token.revocation.checks", "result", "redis_hit");
+        this.falsePositives = meterRegistry.counter("token.revocation.checks", "result", "false_positive");
+
+        // 구독을 먼저 시작해야 재구성 중에 들어온 폐기 알림을 놓치지 않음
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOKE_CHANNEL));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        rebuild();
+    }
+
+    /**
+     * 토큰을 만료 시각까지 폐기한다. 이미 만료된 토큰은 무시한다.
+     */
+    public void revoke(JwtClaims claims) {
+        if (claims.jti() == null) {
+            return;
+        }
+
+        long ttlSeconds = Duration.between(Instant.now(), claims.expiresAt()).toSeconds();
+        if (ttlSeconds <= 0) {
+            return;
+        }
+
+        long expiresAt = claims.expiresAt().getEpochSecond();
+        remember(claims.jti(), expiresAt);
+        redisTemplate.opsForValue().set(KEY_PREFIX + claims.jti(), String.valueOf(expiresAt), Duration.ofSeconds(ttlSeconds));
+        redisTemplate.convertAndSend(REVOKE_CHANNEL, claims.jti() + ":" + expiresAt);
+    }
+
+    public boolean isRevoked(JwtClaims claims) {
+        String jti = claims.jti();
+        if (jti == null || !filter.mightContain(jti)) {
+            bloomNegatives.increment();
+            return false;
+        }
+
+        if (revoked.containsKey(jti)) {
+            localHits.increment();
+            return true;
+        }
+
+        // 오탐이거나 알림을 놓친 경우. Redis 장애 시에는 폐기된 것으로 간주
+        // 오탐된 토큰은 만료까지 요청마다 여기로 오므로 near cache 로 반복 조회를 줄임 (redis.near-cache.prefixes)
+        try {
+            if (Boolean.TRUE.equals(redisNearCache.get(KEY_PREFIX + jti, redisTemplate::hasKey))) {
+                redisHits.increment();
+                remember(jti, claims.expiresAt().getEpochSecond());
+                return true;
+            }
+        } catch (DataAccessException e) {
+            log.warn("token revocation lookup failed : {}", e.getMessage());
+            return true;
+        }
+
+        falsePositives.increment();
+        return false;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        remember(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+    }
+
+    /**
+     * Redis 의 폐기 목록으로 블룸 필터를 새로 만들고 만료된 항목을 로컬 집합에서 지운다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval}",
+            initialDelayString = "${jwt.revocation.rebuild-interval}")
+    public void rebuild() {
+        BloomFilter rebuilt = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_COUNT).build();
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    while (cursor.hasNext()) {
+                        String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                        rebuilt.put(key.substring(KEY_PREFIX.length()));
+                    }
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("token revocation rebuild failed : {}", e.getMessage());
+            return;
+        }
+
+        long now = Instant.now().getEpochSecond();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+        // 교체 이후 들어온 알림은 새 필터에 바로 들어가고, 그 이전 것은 로컬 집합에서 다시 채움
+        filter = rebuilt;
+        revoked.keySet().forEach(rebuilt::put);
+    }
+
+    private void remember(String jti, long expiresAt) {
+        revoked.put(jti, expiresAt);
+        filter.put(jti);
+    }
+
+}
@@ -0,0 +1,40 @@
+package wonjun.stiky.auth.config;
+
+import java.time.Duration;
+
+/**
+ * 리프레시 토큰, 로그인 코드 사용 표식, OAuth2 인가 요청(state) 저장소
+ * - redis: 여러 인스턴스가 공유 (RedisTokenStore, 기본값)
+ * - memory: 단일 인스턴스용 프로세스 내 저장소, 재시작하면 모두 사라짐 (InMemoryTokenStore)
+ * token-store.type 으로 선택
+ */
+public interface TokenStore {
+
+    void saveRefreshToken(Long memberId, String refreshToken);
+
+    /**
+     * 저장된 리프레시 토큰이 presented 와 같을 때만 next 로 교체한다.
+     */
+    boolean rotateRefreshToken(Long memberId, String email, String presented, String next);
+
+    /**
+     * 로그아웃 시 리프레시 토큰을 지운다.
+     */
+    void deleteRefreshToken(Long memberId, String email);
+
+    /**
+     * 로그인 코드를 사용 처리한다. 같은 코드로는 처음 호출한 한 번만 true 를 반환한다.
+     * 표식은 코드 수명(ttl) 동안만 남기면 되고, 그 뒤에는 코드 자체가 만료되어 거부된다.
+     */
+    boolean claimLoginCode(String codeId, Duration ttl);
+
+    void saveAuthorizationRequest(String state, byte[] authorizationRequest, Duration ttl);
+
+    byte[] loadAuthorizationRequest(String state);
+
+    /**
+     * 인가 요청을 지우고 지우기 전 값을 반환한다.
+     */
+    byte[] removeAuthorizationRequest(String state);
+
+}
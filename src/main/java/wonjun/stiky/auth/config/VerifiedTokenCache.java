@@ -0,0 +1,67 @@
+package wonjun.stiky.auth.config;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근에 검증한 토큰의 클레임을 보관하는 LRU 캐시
+ * - 토큰 원문 대신 SHA-256 해시를 키로 사용
+ * - 만료된 항목은 조회 시점에 제거
+ */
+class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<ByteBuffer, JwtClaims> entries;
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, JwtClaims> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    JwtClaims get(String token, Instant now) {
+        if (maxSize <= 0) {
+            return null;
+        }
+
+        ByteBuffer key = hash(token);
+        synchronized (entries) {
+            JwtClaims claims = entries.get(key);
+            if (claims != null && claims.isExpired(now)) {
+                entries.remove(key);
+                return null;
+            }
+            return claims;
+        }
+    }
+
+    void put(String token, JwtClaims claims) {
+        if (maxSize <= 0) {
+            return;
+        }
+
+        ByteBuffer key = hash(token);
+        synchronized (entries) {
+            entries.put(key, claims);
+        }
+    }
+
+    private ByteBuffer hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
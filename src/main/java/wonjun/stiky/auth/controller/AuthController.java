@@ -1,10 +1,11 @@
 package wonjun.stiky.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import wonjun.stiky.auth.config.LoginRateLimiter;
 import wonjun.stiky.auth.controller.dto.TokenDto;
 import wonjun.stiky.auth.controller.dto.request.LoginRequest;
 import wonjun.stiky.auth.controller.dto.request.SignupRequest;
@@ -23,7 +25,6 @@ import wonjun.stiky.auth.service.AuthService;
 @RequiredArgsConstructor
 public class AuthController {
 
-    private final RedisTemplate<String, Object> redisTemplate;
     private final AuthService authService;
 
     @PostMapping("/api/auth/signup")
@@ -32,8 +33,9 @@ public class AuthController {
     }
 
     @PostMapping("/api/auth/login")
-    public ResponseEntity<?> login(@RequestBody @Valid LoginRequest request, HttpServletResponse response) {
-        TokenDto tokenDto = authService.login(request);
+    public ResponseEntity<?> login(@RequestBody @Valid LoginRequest request, HttpServletRequest httpRequest,
+                                   HttpServletResponse response) {
+        TokenDto tokenDto = authService.login(request, LoginRateLimiter.clientIp(httpRequest));
         authService.setRefreshTokenCookie(response, tokenDto.getRefreshToken());
         return ResponseEntity.ok(Map.of("accessToken", tokenDto.getAccessToken()));
     }
@@ -53,25 +55,22 @@ public class AuthController {
 
     @PostMapping("/api/auth/token")
     public ResponseEntity<?> getToken(@RequestBody Map<String, String> request, HttpServletResponse response) {
-        String code = request.get("code");
-        String redisKey = "LOGIN_CODE:" + code;
-        String accessToken = (String) redisTemplate.opsForValue().get(redisKey);
-        String refreshToken = (String) redisTemplate.opsForValue().get(redisKey + ":RT");
+        Optional<TokenDto> tokenDto = authService.redeemLoginCode(request.get("code"));
 
-        if (accessToken == null || refreshToken == null) {
+        if (tokenDto.isEmpty()) {
             return ResponseEntity.badRequest().body("잘못되었거나 만료된 임시 코드입니다.");
         }
 
-        redisTemplate.delete(redisKey);
-        redisTemplate.delete(redisKey + ":RT");
+        authService.setRefreshTokenCookie(response, tokenDto.get().getRefreshToken());
 
-        authService.setRefreshTokenCookie(response, refreshToken);
-
-        return ResponseEntity.ok(Map.of("accessToken", accessToken));
+        return ResponseEntity.ok(Map.of("accessToken", tokenDto.get().getAccessToken()));
     }
 
     @PostMapping("/api/auth/logout")
-    public ResponseEntity<?> logout(HttpServletResponse response) {
+    public ResponseEntity<?> logout(@CookieValue(value = "refresh_token", required = false) String refreshToken,
+                                    HttpServletRequest request, HttpServletResponse response) {
+        authService.logout(request, refreshToken);
+
         ResponseCookie cookie = ResponseCookie.from("refresh_token", "")
                 .maxAge(0)
                 .path("/")
@@ -3,39 +3,55 @@ package wonjun.stiky.auth.service;
 import static wonjun.stiky.global.exception.ErrorCode.EMAIL_ALREADY_EXISTS;
 import static wonjun.stiky.global.exception.ErrorCode.INVALID_TOKEN;
 import static wonjun.stiky.global.exception.ErrorCode.LOGIN_FAILED;
+import static wonjun.stiky.global.exception.ErrorCode.PASSWORD_HASHING_BUSY;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.util.concurrent.TimeUnit;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import wonjun.stiky.auth.config.JwtClaims;
 import wonjun.stiky.auth.config.JwtTokenProvider;
+import wonjun.stiky.auth.config.LoginCodeCodec;
+import wonjun.stiky.auth.config.LoginCodeCodec.LoginCode;
+import wonjun.stiky.auth.config.LoginRateLimiter;
+import wonjun.stiky.auth.config.PasswordHashingExecutor;
+import wonjun.stiky.auth.config.TokenRevocationList;
+import wonjun.stiky.auth.config.TokenStore;
 import wonjun.stiky.auth.controller.dto.TokenDto;
 import wonjun.stiky.auth.controller.dto.request.LoginRequest;
 import wonjun.stiky.auth.controller.dto.request.SignupRequest;
 import wonjun.stiky.auth.controller.dto.response.SignupResponse;
 import wonjun.stiky.global.exception.CustomException;
 import wonjun.stiky.member.domain.Member;
+import wonjun.stiky.member.domain.MemberPrincipal;
+import wonjun.stiky.member.domain.MemberSnapshot;
 import wonjun.stiky.member.service.MemberQueryService;
 
+// 로그인·재발급은 회원 조회만 하므로 클래스 단위 트랜잭션을 두지 않음
+// (MemberQueryService 의 읽기 전용 트랜잭션이 replica 로 가도록)
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class AuthService {
 
     private final MemberQueryService memberQueryService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final LoginCodeCodec loginCodeCodec;
+    private final TokenStore tokenStore;
+    private final TokenRevocationList tokenRevocationList;
+    private final LoginRateLimiter loginRateLimiter;
 
     @Value("${cookie.domain}")
     private String cookieUrl;
 
+    @Transactional
     public SignupResponse signup(SignupRequest request) {
         if (memberQueryService.fetchByEmailOpt(request.getEmail()).isPresent()) {
             throw new CustomException(EMAIL_ALREADY_EXISTS);
@@ -43,7 +59,7 @@ public class AuthService {
 
         Member member = Member.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingExecutor.encode(request.getPassword()))
                 .nickname(request.getNickname())
                 .role("ROLE_USER")
                 .provider("local")
@@ -53,40 +69,93 @@ public class AuthService {
         return SignupResponse.of(savedId);
     }
 
-    public TokenDto login(LoginRequest request) {
-        Member member = memberQueryService.fetchByEmail(request.getEmail());
+    public TokenDto login(LoginRequest request, String clientIp) {
+        loginRateLimiter.acquire(request.getEmail(), clientIp);
 
-        if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
+        MemberSnapshot member = memberQueryService.fetchByEmail(request.getEmail());
+        String encodedPassword = memberQueryService.fetchPassword(member.id());
+
+        if (!passwordHashingExecutor.matches(request.getPassword(), encodedPassword)) {
             throw new CustomException(LOGIN_FAILED);
         }
 
-        TokenDto tokenDto = jwtTokenProvider.generateToken(member.getEmail(), member.getRole());
+        rehashIfNeeded(member, encodedPassword, request.getPassword());
+
+        TokenDto tokenDto = jwtTokenProvider.generateToken(member.principal());
 
-        redisTemplate.opsForValue()
-                .set("RT:" + member.getEmail(), tokenDto.getRefreshToken(), 7, TimeUnit.DAYS);
+        tokenStore.saveRefreshToken(member.id(), tokenDto.getRefreshToken());
 
         return tokenDto;
     }
 
+    // 저장된 해시의 비용이 현재 목표 비용보다 낮으면 로그인 성공 시점에 다시 해싱해 저장
+    private void rehashIfNeeded(MemberSnapshot member, String encodedPassword, String rawPassword) {
+        if (!passwordHashingExecutor.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+
+        try {
+            memberQueryService.rehashPassword(member, passwordHashingExecutor.encode(rawPassword));
+        } catch (CustomException e) {
+            if (e.getErrorCode() != PASSWORD_HASHING_BUSY) {
+                throw e;
+            }
+            // 해싱 풀이 바쁘면 이번 로그인에서는 건너뛰고 다음 로그인에 다시 시도
+            log.info("password rehash skipped, hashing pool busy : memberId={}", member.id());
+        }
+    }
+
+    // 저장소 키와 회원 조회 모두 mid 클레임 기준 (logout 과 동일), mid 가 없는 토큰은 거부
     public TokenDto reissue(String refreshToken) {
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        JwtClaims claims = jwtTokenProvider.verify(refreshToken)
+                .filter(verified -> verified.memberId() != null)
+                .orElseThrow(() -> new CustomException(INVALID_TOKEN));
+
+        MemberPrincipal member = memberQueryService.fetchPrincipal(claims.memberId());
+        TokenDto newToken = jwtTokenProvider.generateToken(member);
+
+        // 저장된 토큰과 비교 후 교체까지 한 번에 처리해 동시 재발급 시 하나만 성공
+        if (!tokenStore.rotateRefreshToken(claims.memberId(), claims.subject(), refreshToken,
+                newToken.getRefreshToken())) {
             throw new CustomException(INVALID_TOKEN);
         }
 
-        String email = jwtTokenProvider.getEmail(refreshToken);
-        String storedRefreshToken = (String) redisTemplate.opsForValue().get("RT:" + email);
+        return newToken;
+    }
 
-        if (!refreshToken.equals(storedRefreshToken)) {
-            throw new CustomException(INVALID_TOKEN);
+    /**
+     * OAuth 로그인 코드를 토큰으로 교환한다. 위조·만료되었거나 이미 교환된 코드면 빈 값을 반환한다.
+     * 토큰은 이 시점에 발급하므로 코드 발급 이후 바뀐 권한·보안 버전이 반영된다.
+     */
+    public Optional<TokenDto> redeemLoginCode(String code) {
+        Optional<LoginCode> loginCode = loginCodeCodec.decode(code);
+        // 복호화로 걸러낸 뒤에만 Redis 에 표식을 남김 (임의 문자열로는 키가 생기지 않음)
+        if (loginCode.isEmpty() || !tokenStore.claimLoginCode(loginCode.get().id(), loginCodeCodec.getTtl())) {
+            return Optional.empty();
         }
 
-        Member member = memberQueryService.fetchByEmail(email);
-        TokenDto newToken = jwtTokenProvider.generateToken(member.getEmail(), member.getRole());
+        // 코드 발급 뒤 이메일이 바뀌었어도 같은 회원, 탈퇴한 회원이면 다른 거부된 코드와 같이 빈 값
+        Optional<MemberPrincipal> member = memberQueryService.fetchPrincipalOpt(loginCode.get().memberId());
+        if (member.isEmpty()) {
+            return Optional.empty();
+        }
 
-        redisTemplate.opsForValue()
-                .set("RT:" + email, newToken.getRefreshToken(), 7, TimeUnit.DAYS);
+        TokenDto tokenDto = jwtTokenProvider.generateToken(member.get());
+        tokenStore.saveRefreshToken(member.get().id(), tokenDto.getRefreshToken());
+        return Optional.of(tokenDto);
+    }
 
-        return newToken;
+    /**
+     * 액세스 토큰을 남은 수명 동안 폐기하고 저장된 리프레시 토큰을 지운다.
+     * 토큰이 없거나 유효하지 않아도 쿠키 삭제는 진행되도록 예외를 던지지 않는다.
+     */
+    public void logout(HttpServletRequest request, String refreshToken) {
+        jwtTokenProvider.verify(jwtTokenProvider.resolveToken(request))
+                .ifPresent(tokenRevocationList::revoke);
+
+        jwtTokenProvider.verify(refreshToken)
+                .filter(claims -> claims.memberId() != null)
+                .ifPresent(claims -> tokenStore.deleteRefreshToken(claims.memberId(), claims.subject()));
     }
 
     public void setRefreshTokenCookie(HttpServletResponse response, String refreshToken) {
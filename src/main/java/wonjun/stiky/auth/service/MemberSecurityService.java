@@ -0,0 +1,43 @@
+package wonjun.stiky.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import wonjun.stiky.auth.config.MemberSecurityVersionCache;
+import wonjun.stiky.auth.config.PasswordHashingExecutor;
+import wonjun.stiky.auth.config.TokenStore;
+import wonjun.stiky.member.domain.MemberSnapshot;
+import wonjun.stiky.member.service.MemberQueryService;
+
+/**
+ * 이미 발급한 토큰을 무효화해야 하는 회원 변경 (비밀번호·권한 변경, 계정 잠금)
+ * - DB 의 security_version 을 올리고 커밋 이후 이 인스턴스의 보안 버전 캐시를 바로 비움
+ * - 다른 인스턴스는 jwt.security-version.refresh-interval 안에 반영
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberSecurityService {
+
+    private final MemberQueryService memberQueryService;
+    private final MemberSecurityVersionCache memberSecurityVersionCache;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final TokenStore tokenStore;
+
+    public void changePassword(MemberSnapshot member, String rawPassword) {
+        memberQueryService.updatePassword(member, passwordHashingExecutor.encode(rawPassword));
+        memberSecurityVersionCache.invalidate(member.id());
+    }
+
+    // 리프레시 토큰은 유지 (재발급 시 바뀐 권한으로 새 액세스 토큰을 받음)
+    public void changeRole(MemberSnapshot member, String role) {
+        memberQueryService.updateRole(member, role);
+        memberSecurityVersionCache.invalidate(member.id());
+    }
+
+    // 계정 잠금·강제 로그아웃. 리프레시 토큰도 지워 재발급도 막음
+    public void revokeTokens(MemberSnapshot member) {
+        memberQueryService.incrementSecurityVersion(member);
+        memberSecurityVersionCache.invalidate(member.id());
+        tokenStore.deleteRefreshToken(member.id(), member.email());
+    }
+
+}
@@ -0,0 +1,75 @@
+package wonjun.stiky.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import wonjun.stiky.global.metrics.JooqQueryMetricsListener;
+import wonjun.stiky.global.metrics.QueryProfiler;
+import wonjun.stiky.global.metrics.QueryProfilerFilter;
+import wonjun.stiky.global.metrics.QueryShapeEndpoint;
+import wonjun.stiky.global.metrics.QueryShapes;
+import wonjun.stiky.global.metrics.RedisCommandMetrics;
+
+/**
+ * Redis 명령, jOOQ 쿼리 측정 등록
+ * - 쿼리 모양별 통계와 느린 쿼리·N+1 감지는 QueryProfiler (actuator queries 엔드포인트)
+ * - JWT, BCrypt, 토큰 저장소 타이머는 각 컴포넌트에서 직접 등록
+ * - HikariCP 풀, Lettuce 명령 지연, HTTP 요청 지표는 Spring Boot 자동 설정을 그대로 사용
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ClientResourcesBuilderCustomizer redisCommandMetricsCustomizer(
+            MeterRegistry meterRegistry,
+            @Value("${metrics.redis.key-prefixes}") List<String> keyPrefixes) {
+        RedisCommandMetrics redisCommandMetrics = new RedisCommandMetrics(meterRegistry, keyPrefixes);
+        return builder -> builder.tracing(redisCommandMetrics);
+    }
+
+    @Bean
+    public QueryShapes queryShapes(@Value("${metrics.jooq.max-shapes}") int maxShapes) {
+        return new QueryShapes(maxShapes);
+    }
+
+    // JooqAutoConfiguration 이 ExecuteListenerProvider 빈을 모아 DSLContext 에 등록
+    @Bean
+    public ExecuteListenerProvider jooqQueryMetricsListenerProvider(MeterRegistry meterRegistry,
+                                                                    QueryShapes queryShapes) {
+        return new DefaultExecuteListenerProvider(new JooqQueryMetricsListener(meterRegistry, queryShapes));
+    }
+
+    @Bean
+    public QueryProfiler queryProfiler(QueryShapes queryShapes,
+                                       @Value("${diagnostics.query.slow-threshold}") Duration slowThreshold,
+                                       @Value("${diagnostics.query.repeat-threshold}") int repeatThreshold) {
+        return new QueryProfiler(queryShapes, slowThreshold.toNanos(), repeatThreshold);
+    }
+
+    @Bean
+    public ExecuteListenerProvider queryProfilerListenerProvider(QueryProfiler queryProfiler) {
+        return new DefaultExecuteListenerProvider(queryProfiler);
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryProfilerFilter> queryProfilerFilter(QueryProfiler queryProfiler) {
+        FilterRegistrationBean<QueryProfilerFilter> registration =
+                new FilterRegistrationBean<>(new QueryProfilerFilter(queryProfiler));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    public QueryShapeEndpoint queryShapeEndpoint(QueryProfiler queryProfiler) {
+        return new QueryShapeEndpoint(queryProfiler);
+    }
+
+}
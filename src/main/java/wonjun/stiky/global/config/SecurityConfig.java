@@ -1,28 +1,32 @@
 package wonjun.stiky.global.config;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import wonjun.stiky.auth.config.CalibratedPasswordEncoder;
 import wonjun.stiky.auth.config.CustomOAuth2UserService;
 import wonjun.stiky.auth.config.CustomUserDetailsService;
 import wonjun.stiky.auth.config.RedisOAuth2AuthorizationRequestRepository;
 import wonjun.stiky.auth.config.JwtAuthenticationFilter;
 import wonjun.stiky.auth.config.JwtTokenProvider;
 import wonjun.stiky.auth.config.OAuth2SuccessHandler;
+import wonjun.stiky.auth.config.TokenRevocationList;
 
 @Configuration
 @RequiredArgsConstructor
@@ -34,12 +38,78 @@ public class SecurityConfig {
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final RedisOAuth2AuthorizationRequestRepository authorizationRequestRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList tokenRevocationList;
 
     @Value("${cors.allowed-origins}")
     private List<String> allowedOrigins;
 
+    @Value("${password.hash.cost}")
+    private int passwordHashCost;
+
+    @Value("${password.hash.target-latency}")
+    private Duration passwordHashTargetLatency;
+
+    @Value("${password.hash.min-cost}")
+    private int passwordHashMinCost;
+
+    @Value("${password.hash.max-cost}")
+    private int passwordHashMaxCost;
+
+    /**
+     * 문서·정적 자원과 관리 엔드포인트: 인증 정보를 쓰지 않으므로 보안 헤더 외의 필터를 모두 뺀 체인
+     * (세션·SecurityContext·익명 인증·요청 캐시·인가 필터 없음, 매칭되면 모두 허용)
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain publicFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatchers(matchers -> matchers
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")) // 수집기용, 민감 정보 없음
+                        .requestMatchers(
+                                "/swagger-ui/**",
+                                "/swagger-ui.html",
+                                "/v3/api-docs/**",
+                                "/docs/**"
+                        ))
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(AbstractHttpConfigurer::disable)
+                .securityContext(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .servletApi(AbstractHttpConfigurer::disable)
+                .exceptionHandling(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable);
+
+        return http.build();
+    }
+
+    /**
+     * 로그인·회원가입·토큰 교환: 프론트엔드에서 호출하므로 CORS 는 유지하고 JWT 해석과 OAuth2 필터는 제외
+     * (재발급·로그아웃은 Authorization 헤더와 쿠키를 컨트롤러에서 직접 읽음)
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    @Order(2)
+    public SecurityFilterChain authFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/api/auth/**")
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .csrf(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+
+        return http.build();
+    }
+
+    /**
+     * 나머지 API 와 소셜 로그인: JWT 인증, OAuth2 로그인, 인가 규칙을 모두 거치는 체인
+     */
+    @Bean
+    @Order(3)
+    public SecurityFilterChain apiFilterChain(HttpSecurity http) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable)
@@ -47,15 +117,9 @@ public class SecurityConfig {
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(
-                                "/swagger-ui/**",
-                                "/swagger-ui.html",
-                                "/v3/api-docs/**",
-                                "/docs/**",
-                                "/api/auth/**",
-                                "/login/**",
-                                "/oauth2/**"
-                        ).permitAll()
+                        .requestMatchers("/login/**", "/oauth2/**").permitAll()
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers(EndpointRequest.to("queries")).hasRole("ADMIN") // SQL 모양 노출·초기화
                         .anyRequest().authenticated()
                 )
                 .oauth2Login(oauth2 -> oauth2
@@ -63,7 +127,8 @@ public class SecurityConfig {
                                 .authorizationRequestRepository(authorizationRequestRepository))
                         .userInfoEndpoint(userInfo -> userInfo.userService(customOAuth2UserService))
                         .successHandler(oAuth2SuccessHandler))
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailsService),
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailsService,
+                                tokenRevocationList),
                         UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -71,7 +136,8 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return CalibratedPasswordEncoder.calibrate(passwordHashCost, passwordHashTargetLatency, passwordHashMinCost,
+                passwordHashMaxCost);
     }
 
     @Bean
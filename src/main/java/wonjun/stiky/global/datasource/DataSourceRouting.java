@@ -0,0 +1,34 @@
+package wonjun.stiky.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 조회를 읽기 전용 트랜잭션이어도 primary 로 보내도록 강제
+ * - 커넥션은 첫 쿼리 시점에 정해지므로 쿼리 실행 전에 감싸야 효과가 있음
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> query) {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_FORCED.remove();
+            } else {
+                PRIMARY_FORCED.set(previous);
+            }
+        }
+    }
+
+    static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+
+}
@@ -0,0 +1,33 @@
+package wonjun.stiky.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근에 쓴 데이터의 키(이메일 등)를 잠시 기억
+ * - 이 기간 동안 해당 키의 조회는 primary 로 보내 복제 지연으로 이전 값을 읽지 않도록 함
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWrites;
+
+    public ReadYourWritesTracker(@Value("${datasource.replica.read-your-writes-window}") Duration window) {
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void recordWrite(String key) {
+        recentWrites.put(key, Boolean.TRUE);
+    }
+
+    public boolean isRecentlyWritten(String key) {
+        return recentWrites.getIfPresent(key) != null;
+    }
+
+}
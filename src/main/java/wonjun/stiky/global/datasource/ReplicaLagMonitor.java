@@ -0,0 +1,76 @@
+package wonjun.stiky.global.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.OptionalLong;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * replica 복제 지연을 주기적으로 확인
+ * - SHOW REPLICA STATUS 의 Seconds_Behind_Source 가 max-lag 를 넘거나 복제가 멈추면 replica 를 라우팅에서 제외
+ * - 다시 기준 안으로 들어오면 자동으로 복귀
+ * - replica 계정에 REPLICATION CLIENT 권한이 필요
+ */
+@Slf4j
+public class ReplicaLagMonitor implements InitializingBean {
+
+    private final DataSource replicaDataSource;
+    private final long maxLagSeconds;
+    private volatile boolean replicaAvailable;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagSeconds = maxLag.toSeconds();
+
+        meterRegistry.gauge("datasource.replica.lag", this, monitor -> monitor.lagSeconds);
+        meterRegistry.gauge("datasource.replica.available", this, monitor -> monitor.replicaAvailable ? 1 : 0);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        check();
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval}",
+            initialDelayString = "${datasource.replica.lag-check-interval}")
+    public void check() {
+        OptionalLong lag = measureLagSeconds();
+        boolean available = lag.isPresent() && lag.getAsLong() <= maxLagSeconds;
+
+        lagSeconds = lag.orElse(-1);
+        if (available != replicaAvailable) {
+            log.warn("replica {} routing (lag={}s, max={}s)", available ? "added to" : "removed from",
+                    lag.isPresent() ? lag.getAsLong() : "unknown", maxLagSeconds);
+        }
+        replicaAvailable = available;
+    }
+
+    // 복제가 설정되지 않았거나 멈춘 경우(Seconds_Behind_Source 가 NULL)는 빈 값
+    private OptionalLong measureLagSeconds() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                return OptionalLong.empty();
+            }
+            long lag = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? OptionalLong.empty() : OptionalLong.of(lag);
+        } catch (SQLException e) {
+            log.warn("replica lag check failed : {}", e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package wonjun.stiky.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 나머지는 primary 로 보냄
+ * - replica 지연이 기준을 넘으면 (ReplicaLagMonitor) 읽기도 primary 로 보냄
+ * - 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 판단해야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !DataSourceRouting.isPrimaryForced()
+                && replicaLagMonitor.isReplicaAvailable()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+
+}
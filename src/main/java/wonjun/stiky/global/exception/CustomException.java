@@ -2,13 +2,17 @@ package wonjun.stiky.global.exception;
 
 import lombok.Getter;
 
+/**
+ * 예상된 비즈니스 오류 (로그인 실패, 만료된 토큰, 없는 회원 등)
+ * - 응답은 ErrorCode 만으로 정해지고 발생 위치는 필요 없으므로 스택 트레이스를 만들지 않음
+ */
 @Getter
 public class CustomException extends RuntimeException {
 
     private final ErrorCode errorCode;
 
     public CustomException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, false, false);
         this.errorCode = errorCode;
     }
 
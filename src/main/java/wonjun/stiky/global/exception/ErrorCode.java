@@ -17,6 +17,10 @@ public enum ErrorCode {
     EMAIL_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "A001", "이미 가입된 이메일입니다."),
     LOGIN_FAILED(HttpStatus.BAD_REQUEST, "A002", "아이디 또는 비밀번호가 일치하지 않습니다."),
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "A003", "유효하지 않거나 만료된 토큰입니다."),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "A004", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    LOGIN_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "A005", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    TOKEN_STORE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "A006", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    TOKEN_STORE_ENTRY_TOO_LARGE(HttpStatus.BAD_REQUEST, "A007", "요청 정보가 너무 커서 처리할 수 없습니다."),
 
     // Member
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "M001", "존재하지 않는 회원입니다.");
@@ -0,0 +1,60 @@
+package wonjun.stiky.global.exception;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 예상된 오류 로그를 ErrorCode 별로 interval 당 max-per-interval 건까지만 남김
+ * - 나머지는 건너뛴 수만 세었다가 다음에 남기는 로그에 함께 출력
+ * - 전체 발생 수는 errors.responses 지표로 따로 집계되므로 로그는 표본이면 충분
+ */
+class ErrorLogSampler {
+
+    static final long SUPPRESSED = -1;
+
+    private final long intervalNanos;
+    private final int maxPerInterval;
+    private final Map<ErrorCode, Window> windows = new EnumMap<>(ErrorCode.class);
+
+    ErrorLogSampler(Duration interval, int maxPerInterval) {
+        this.intervalNanos = interval.toNanos();
+        this.maxPerInterval = maxPerInterval;
+        long now = System.nanoTime();
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            windows.put(errorCode, new Window(now));
+        }
+    }
+
+    /**
+     * 로그를 남겨도 되면 그 전까지 건너뛴 로그 수를, 아니면 SUPPRESSED 를 반환한다.
+     */
+    long tryAcquire(ErrorCode errorCode) {
+        Window window = windows.get(errorCode);
+        long now = System.nanoTime();
+        long startedAt = window.startedAt.get();
+        if (now - startedAt >= intervalNanos && window.startedAt.compareAndSet(startedAt, now)) {
+            window.logged.set(0);
+        }
+        if (window.logged.incrementAndGet() <= maxPerInterval) {
+            return window.suppressed.getAndSet(0);
+        }
+        window.suppressed.incrementAndGet();
+        return SUPPRESSED;
+    }
+
+    private static final class Window {
+
+        private final AtomicLong startedAt;
+        private final AtomicInteger logged = new AtomicInteger();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        Window(long startedAt) {
+            this.startedAt = new AtomicLong(startedAt);
+        }
+
+    }
+
+}
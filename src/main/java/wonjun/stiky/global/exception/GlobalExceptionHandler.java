@@ -1,31 +1,92 @@
 package wonjun.stiky.global.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+/**
+ * - ErrorCode 만으로 정해지는 응답은 기동 시 JSON 으로 한 번 직렬화해 두고 그대로 내려보냄
+ * - 예상된 오류(CustomException, 입력값 검증)는 ErrorCode 별로 표본만 로그를 남기고 건수는 지표로 집계
+ * - 예상하지 못한 예외만 스택 트레이스와 함께 ERROR 로그
+ */
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final Map<ErrorCode, ResponseEntity<byte[]>> responses = new EnumMap<>(ErrorCode.class);
+    private final Map<ErrorCode, Counter> counters = new EnumMap<>(ErrorCode.class);
+    private final ErrorLogSampler errorLogSampler;
+
+    public GlobalExceptionHandler(ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${error-log.interval}") Duration logInterval,
+                                  @Value("${error-log.max-per-interval}") int maxLogsPerInterval)
+            throws JsonProcessingException {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            byte[] body = objectMapper.writeValueAsBytes(ErrorResponse.builder()
+                    .code(errorCode.getCode())
+                    .message(errorCode.getMessage())
+                    .build());
+            responses.put(errorCode, ResponseEntity.status(errorCode.getStatus())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body));
+            counters.put(errorCode, meterRegistry.counter("errors.responses", "code", errorCode.getCode()));
+        }
+        this.errorLogSampler = new ErrorLogSampler(logInterval, maxLogsPerInterval);
+    }
+
     @ExceptionHandler(CustomException.class)
-    public ResponseEntity<ErrorResponse> handleCustomException(CustomException e) {
-        log.error("handleCustomException : {}", e.getErrorCode());
-        return ErrorResponse.toResponseEntity(e.getErrorCode());
+    public ResponseEntity<byte[]> handleCustomException(CustomException e) {
+        logExpected("handleCustomException", e.getErrorCode());
+        return responses.get(e.getErrorCode());
+    }
+
+    @ExceptionHandler(RateLimitException.class)
+    public ResponseEntity<byte[]> handleRateLimitException(RateLimitException e) {
+        logExpected("handleRateLimitException", e.getErrorCode());
+        ResponseEntity<byte[]> response = responses.get(e.getErrorCode());
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response.getBody());
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException e) {
-        log.error("handleValidationException : {}", e.getMessage());
+        logExpected("handleValidationException", ErrorCode.INVALID_INPUT_VALUE);
         return ErrorResponse.toResponseEntity(ErrorCode.INVALID_INPUT_VALUE, e.getBindingResult());
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponse> handleException(Exception e) {
-        log.error("handleException : {}", e.getMessage());
-        return ErrorResponse.toResponseEntity(ErrorCode.INTERNAL_SERVER_ERROR);
+    public ResponseEntity<byte[]> handleException(Exception e) {
+        counters.get(ErrorCode.INTERNAL_SERVER_ERROR).increment();
+        log.error("handleException : {}", e.getMessage(), e);
+        return responses.get(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
+    private void logExpected(String handler, ErrorCode errorCode) {
+        counters.get(errorCode).increment();
+        long suppressed = errorLogSampler.tryAcquire(errorCode);
+        if (suppressed == ErrorLogSampler.SUPPRESSED) {
+            return;
+        }
+        if (errorCode.getStatus().is5xxServerError()) {
+            log.warn("{} : {} (suppressed {})", handler, errorCode, suppressed);
+        } else {
+            log.info("{} : {} (suppressed {})", handler, errorCode, suppressed);
+        }
     }
 
-}
\ No newline at end of file
+}
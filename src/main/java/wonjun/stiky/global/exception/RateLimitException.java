@@ -0,0 +1,15 @@
+package wonjun.stiky.global.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitException extends CustomException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
@@ -0,0 +1,56 @@
+package wonjun.stiky.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+
+/**
+ * jOOQ 쿼리 실행 시간을 쿼리 모양(shape, QueryShapes 참고)별로 기록
+ * - 측정 구간은 SQL 렌더링부터 결과 소비까지 (fetchLazy 커서는 닫힐 때까지)
+ */
+public class JooqQueryMetricsListener implements ExecuteListener {
+
+    private static final String METRIC_NAME = "jooq.query";
+    private static final String STARTED_AT = JooqQueryMetricsListener.class.getName() + ".startedAt";
+
+    private final MeterRegistry meterRegistry;
+    private final QueryShapes queryShapes;
+
+    public JooqQueryMetricsListener(MeterRegistry meterRegistry, QueryShapes queryShapes) {
+        this.meterRegistry = meterRegistry;
+        this.queryShapes = queryShapes;
+    }
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        ctx.data(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void exception(ExecuteContext ctx) {
+        record(ctx, "error");
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        record(ctx, "success");
+    }
+
+    // 예외가 나면 exception 다음 end 도 불리므로 시작 시각을 지워 한 번만 기록
+    private void record(ExecuteContext ctx, String outcome) {
+        Object startedAt = ctx.data(STARTED_AT, null);
+        if (!(startedAt instanceof Long started)) {
+            return;
+        }
+        Timer.builder(METRIC_NAME)
+                .tag("shape", queryShapes.shapeOf(ctx.sql()))
+                .tag("type", ctx.type().name().toLowerCase(Locale.ROOT))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+}
@@ -0,0 +1,194 @@
+package wonjun.stiky.global.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+
+/**
+ * 쿼리 모양(shape)별 실행 통계와 느린 쿼리·N+1 감지
+ * - shape 마다 횟수, 누적·최대 시간, 2의 거듭제곱(µs) 버킷 히스토그램을 락 없이 누적
+ * - slow-threshold 를 넘은 쿼리는 호출한 애플리케이션 메서드(보통 Repository)와 함께 로그
+ * - 한 요청 안에서 같은 shape 가 repeat-threshold 번 이상 실행되면 N+1 의심으로 요청 끝에 로그
+ *   (요청 범위는 QueryProfilerFilter 가 정하며, 요청 밖의 배치·스케줄 작업은 집계만 함)
+ * - 측정 구간은 SQL 렌더링부터 실행 완료까지 (executeEnd). 결과 소비 시간은 넣지 않으므로
+ *   fetchLazy 스트리밍 커서는 첫 결과를 받기까지만 재고, 내보내기처럼 커서를 오래 여는 작업이 느린 쿼리로 잡히지 않음
+ * - 누적 통계는 actuator queries 엔드포인트로 조회
+ */
+@Slf4j
+public class QueryProfiler implements ExecuteListener {
+
+    private static final String STARTED_AT = QueryProfiler.class.getName() + ".startedAt";
+    private static final String APP_PACKAGE = "wonjun.stiky.";
+    private static final String METRICS_PACKAGE = "wonjun.stiky.global.metrics.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final ThreadLocal<RequestQueries> CURRENT_REQUEST = new ThreadLocal<>();
+
+    private final QueryShapes queryShapes;
+    private final long slowThresholdNanos;
+    private final int repeatThreshold;
+    private final Map<String, ShapeStats> stats = new ConcurrentHashMap<>();
+
+    public QueryProfiler(QueryShapes queryShapes, long slowThresholdNanos, int repeatThreshold) {
+        this.queryShapes = queryShapes;
+        this.slowThresholdNanos = slowThresholdNanos;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        ctx.data(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        Object startedAt = ctx.data(STARTED_AT, null);
+        if (!(startedAt instanceof Long started)) {
+            return;
+        }
+        long elapsed = System.nanoTime() - started;
+        String shape = queryShapes.shapeOf(ctx.sql());
+        ShapeStats shapeStats = stats.computeIfAbsent(shape, ShapeStats::new);
+        shapeStats.record(elapsed);
+
+        if (elapsed >= slowThresholdNanos) {
+            shapeStats.slow.increment();
+            log.warn("slow query {}ms at {} : {}", TimeUnit.NANOSECONDS.toMillis(elapsed), caller(), shape);
+        }
+
+        RequestQueries request = CURRENT_REQUEST.get();
+        if (request != null) {
+            request.executed(shape);
+        }
+    }
+
+    public void beginRequest() {
+        CURRENT_REQUEST.set(new RequestQueries());
+    }
+
+    public void endRequest(String requestName) {
+        RequestQueries request = CURRENT_REQUEST.get();
+        CURRENT_REQUEST.remove();
+        if (request == null) {
+            return;
+        }
+        request.repeated.forEach((shape, caller) -> {
+            ShapeStats shapeStats = stats.get(shape);
+            if (shapeStats != null) { // 요청 도중 reset 된 경우
+                shapeStats.repeatedRequests.increment();
+            }
+            log.warn("possible N+1: {} ran {} times in {} at {}", shape, request.counts.get(shape), requestName,
+                    caller);
+        });
+    }
+
+    // 누적 시간이 큰 순서
+    public List<QueryShapeStats> snapshot() {
+        List<QueryShapeStats> snapshot = new ArrayList<>(stats.size());
+        stats.values().forEach(shapeStats -> snapshot.add(shapeStats.snapshot()));
+        snapshot.sort(Comparator.comparingDouble(QueryShapeStats::totalMillis).reversed());
+        return snapshot;
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    // 느린 쿼리나 N+1 이 처음 감지될 때만 스택을 훑음
+    private static String caller() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE)
+                        && !frame.getClassName().startsWith(METRICS_PACKAGE))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("unknown"));
+    }
+
+    // 요청 스레드 하나에서만 쓰므로 동기화하지 않음
+    private final class RequestQueries {
+
+        private final Map<String, Integer> counts = new HashMap<>();
+        private final Map<String, String> repeated = new HashMap<>();
+
+        void executed(String shape) {
+            int count = counts.merge(shape, 1, Integer::sum);
+            if (count == repeatThreshold) {
+                repeated.put(shape, caller());
+            }
+        }
+
+    }
+
+    private static final class ShapeStats {
+
+        // 버킷 i 는 [2^(i-1), 2^i) µs, 마지막 버킷은 그 이상 전부
+        private static final int BUCKETS = 32;
+
+        private final String shape;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder slow = new LongAdder();
+        private final LongAdder repeatedRequests = new LongAdder();
+
+        ShapeStats(String shape) {
+            this.shape = shape;
+        }
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+            buckets.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros)));
+        }
+
+        QueryShapeStats snapshot() {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            long executions = count.sum();
+            double totalMillis = totalNanos.sum() / 1_000_000.0;
+            return new QueryShapeStats(shape, executions, totalMillis,
+                    executions == 0 ? 0 : totalMillis / executions,
+                    percentileMillis(counts, total, 0.50),
+                    percentileMillis(counts, total, 0.95),
+                    percentileMillis(counts, total, 0.99),
+                    maxNanos.get() / 1_000_000.0,
+                    slow.sum(),
+                    repeatedRequests.sum());
+        }
+
+        // 해당 버킷의 상한값으로 근사 (최대 2배 오차)
+        private static double percentileMillis(long[] counts, long total, double percentile) {
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return (1L << i) / 1000.0;
+                }
+            }
+            return (1L << (counts.length - 1)) / 1000.0;
+        }
+
+    }
+
+}
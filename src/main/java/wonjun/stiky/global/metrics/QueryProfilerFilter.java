@@ -0,0 +1,30 @@
+package wonjun.stiky.global.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청 하나를 N+1 감지 범위로 묶음 (인증 필터에서 실행되는 쿼리도 포함하도록 보안 필터보다 앞에 둠)
+ */
+@RequiredArgsConstructor
+public class QueryProfilerFilter extends OncePerRequestFilter {
+
+    private final QueryProfiler queryProfiler;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        queryProfiler.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            queryProfiler.endRequest(request.getMethod() + " " + request.getRequestURI());
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package wonjun.stiky.global.metrics;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * 쿼리 모양별 누적 통계 조회 (GET /actuator/queries), 초기화 (DELETE /actuator/queries)
+ */
+@Endpoint(id = "queries")
+@RequiredArgsConstructor
+public class QueryShapeEndpoint {
+
+    private final QueryProfiler queryProfiler;
+
+    @ReadOperation
+    public List<QueryShapeStats> shapes() {
+        return queryProfiler.snapshot();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        queryProfiler.reset();
+    }
+
+}
@@ -0,0 +1,18 @@
+package wonjun.stiky.global.metrics;
+
+/**
+ * 쿼리 모양 하나의 누적 통계 (시간은 ms, 백분위는 버킷 상한값 근사)
+ */
+public record QueryShapeStats(
+        String shape,
+        long count,
+        double totalMillis,
+        double meanMillis,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis,
+        long slowCount,
+        long repeatedRequests
+) {
+}
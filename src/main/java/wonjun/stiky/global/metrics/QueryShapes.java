@@ -0,0 +1,51 @@
+package wonjun.stiky.global.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 을 쿼리 모양(shape)으로 정규화
+ * - shape 는 바인드 값이 빠진 SQL 에서 IN 목록·multi-row VALUES 길이를 하나로 접은 문자열
+ *   (청크 크기가 달라도 같은 쿼리로 집계)
+ * - 서로 다른 shape 가 max-shapes 를 넘으면 이후 shape 는 other 로 묶어 지표 태그·통계 수를 제한
+ */
+public class QueryShapes {
+
+    public static final String OTHER = "other";
+
+    private static final Pattern BIND_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+    private static final Pattern ROW_LIST = Pattern.compile("\\(\\?\\.\\.\\)(?:\\s*,\\s*\\(\\?\\.\\.\\))+");
+
+    private final int maxShapes;
+    private final Set<String> shapes = ConcurrentHashMap.newKeySet();
+    // 같은 SQL 문자열마다 정규식을 다시 돌리지 않도록 shape 를 캐시
+    private final Cache<String, String> shapeBySql = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .build();
+
+    public QueryShapes(int maxShapes) {
+        this.maxShapes = maxShapes;
+    }
+
+    public String shapeOf(String sql) {
+        if (sql == null) {
+            return OTHER;
+        }
+        return shapeBySql.get(sql, key -> {
+            String shape = normalize(key);
+            if (shapes.contains(shape) || (shapes.size() < maxShapes && shapes.add(shape))) {
+                return shape;
+            }
+            return OTHER;
+        });
+    }
+
+    private static String normalize(String sql) {
+        String collapsed = BIND_LIST.matcher(sql).replaceAll("?..");
+        return ROW_LIST.matcher(collapsed).replaceAll("(?..)..");
+    }
+
+}
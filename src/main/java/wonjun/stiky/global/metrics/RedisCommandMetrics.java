@@ -0,0 +1,179 @@
+package wonjun.stiky.global.metrics;
+
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.tracing.TraceContext;
+import io.lettuce.core.tracing.TraceContextProvider;
+import io.lettuce.core.tracing.Tracer;
+import io.lettuce.core.tracing.TracerProvider;
+import io.lettuce.core.tracing.Tracing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 명령 지연 시간을 키 접두사(RT, LOGIN_CODE, OAUTH2_AUTH_REQUEST ...)별로 기록
+ * - Lettuce 의 Tracing 확장 지점을 이용해 모든 RedisTemplate 호출(파이프라인, Lua 포함)을 한 곳에서 측정
+ * - 첫 번째 키의 ':' 앞부분을 접두사로 보고, 등록되지 않은 접두사는 other 로 묶어 태그 수를 제한
+ * - 측정 구간은 명령을 보낸 시점부터 응답을 받을 때까지 (커넥션 대기 포함, 직렬화 제외)
+ */
+public class RedisCommandMetrics implements Tracing, TracerProvider {
+
+    private static final String METRIC_NAME = "redis.commands";
+    private static final String NO_KEY = "none";
+    private static final String OTHER = "other";
+    private static final Endpoint NO_ENDPOINT = new Endpoint() {
+    };
+
+    private final MeterRegistry meterRegistry;
+    private final List<KeyPrefix> keyPrefixes;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Tracer tracer = new Tracer() {
+        @Override
+        public Span nextSpan() {
+            return new CommandSpan();
+        }
+
+        @Override
+        public Span nextSpan(TraceContext traceContext) {
+            return new CommandSpan();
+        }
+    };
+
+    public RedisCommandMetrics(MeterRegistry meterRegistry, List<String> keyPrefixes) {
+        this.meterRegistry = meterRegistry;
+        this.keyPrefixes = keyPrefixes.stream()
+                .map(prefix -> new KeyPrefix(prefix, prefix.getBytes(StandardCharsets.US_ASCII)))
+                .toList();
+    }
+
+    @Override
+    public TracerProvider getTracerProvider() {
+        return this;
+    }
+
+    @Override
+    public Tracer getTracer() {
+        return tracer;
+    }
+
+    @Override
+    public TraceContextProvider initialTraceContextProvider() {
+        return () -> TraceContext.EMPTY;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean includeCommandArgsInSpanTags() {
+        return false;
+    }
+
+    @Override
+    public Endpoint createEndpoint(SocketAddress socketAddress) {
+        return NO_ENDPOINT;
+    }
+
+    // 키 문자열을 만들지 않고 등록된 접두사와 바이트 단위로 비교
+    private String prefixOf(CommandArgs<?, ?> args) {
+        ByteBuffer key = args == null ? null : args.getFirstEncodedKey();
+        if (key == null) {
+            return NO_KEY;
+        }
+        for (KeyPrefix prefix : keyPrefixes) {
+            if (startsWith(key, prefix.bytes())) {
+                return prefix.name();
+            }
+        }
+        return OTHER;
+    }
+
+    private static boolean startsWith(ByteBuffer key, byte[] prefix) {
+        int position = key.position();
+        if (key.remaining() < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (key.get(position + i) != prefix[i]) {
+                return false;
+            }
+        }
+        // 접두사 자체(채널 이름 등)이거나 바로 뒤에 ':' 가 와야 함
+        return key.remaining() == prefix.length || key.get(position + prefix.length) == ':';
+    }
+
+    private Timer timer(TimerKey timerKey) {
+        return timers.computeIfAbsent(timerKey, key -> Timer.builder(METRIC_NAME)
+                .tag("command", key.command())
+                .tag("prefix", key.prefix())
+                .tag("outcome", key.failed() ? "error" : "success")
+                .register(meterRegistry));
+    }
+
+    private record KeyPrefix(String name, byte[] bytes) {
+    }
+
+    private record TimerKey(String command, String prefix, boolean failed) {
+    }
+
+    private final class CommandSpan extends Tracer.Span {
+
+        private long startedAt;
+        private String command;
+        private String prefix;
+        private boolean failed;
+
+        @Override
+        public Tracer.Span start(RedisCommand<?, ?, ?> redisCommand) {
+            this.command = redisCommand.getType().name();
+            this.prefix = prefixOf(redisCommand.getArgs());
+            this.startedAt = System.nanoTime();
+            return this;
+        }
+
+        @Override
+        public Tracer.Span name(String name) {
+            return this;
+        }
+
+        @Override
+        public Tracer.Span annotate(String value) {
+            return this;
+        }
+
+        @Override
+        public Tracer.Span tag(String key, String value) {
+            return this;
+        }
+
+        @Override
+        public Tracer.Span error(Throwable throwable) {
+            this.failed = true;
+            return this;
+        }
+
+        @Override
+        public Tracer.Span remoteEndpoint(Endpoint endpoint) {
+            return this;
+        }
+
+        @Override
+        public void finish() {
+            if (command == null) {
+                return;
+            }
+            timer(new TimerKey(command, prefix, failed)).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+    }
+
+}
@@ -0,0 +1,252 @@
+package wonjun.stiky.global.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 6 클라이언트 트래킹(RESP3, BCAST)으로 일관성을 유지하는 인스턴스 로컬 캐시
+ * - 조회는 기존 RedisTemplate 으로 하고, 전용 연결 하나는 설정한 키 접두사의 무효화 메시지만 받음
+ * - 없는 키도 캐싱 (BCAST 모드는 접두사에 해당하는 모든 쓰기를 알려주므로 새로 생긴 키도 무효화됨)
+ * - 트래킹 연결이 끊기면 캐시를 비우고 다시 연결될 때까지 매번 Redis 에서 읽음
+ * - 서버가 RESP3/트래킹을 지원하지 않거나 단일 노드 구성이 아니면 캐시 없이 동작
+ */
+@Slf4j
+@Component
+public class RedisNearCache implements InitializingBean, DisposableBean {
+
+    private static final Object ABSENT = new Object();
+
+    private final RedisConnectionFactory connectionFactory;
+    private final boolean enabled;
+    private final List<String> prefixes;
+    private final Cache<String, Object> cache;
+    private final Map<String, Counter> hits = new HashMap<>();
+    private final Map<String, Counter> misses = new HashMap<>();
+    private final Counter invalidations;
+
+    // 조회 도중 무효화가 오면 읽은 값을 캐시에 넣지 않도록 무효화마다 증가
+    private final AtomicLong invalidationSequence = new AtomicLong();
+    private final ReadWriteLock invalidationLock = new ReentrantReadWriteLock();
+
+    private volatile boolean tracking;
+    private RedisClient client;
+    private volatile StatefulRedisConnection<String, String> connection;
+
+    public RedisNearCache(RedisConnectionFactory connectionFactory,
+                          MeterRegistry meterRegistry,
+                          @Value("${redis.near-cache.enabled}") boolean enabled,
+                          @Value("${redis.near-cache.prefixes}") List<String> prefixes,
+                          @Value("${redis.near-cache.max-size}") long maxSize) {
+        this.connectionFactory = connectionFactory;
+        this.enabled = enabled;
+        this.prefixes = List.copyOf(prefixes);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+
+        // 로컬 적중 수 = 아낀 Redis 왕복 수
+        for (String prefix : this.prefixes) {
+            hits.put(prefix, meterRegistry.counter("redis.near_cache.gets", "prefix", prefix, "result", "hit"));
+            misses.put(prefix, meterRegistry.counter("redis.near_cache.gets", "prefix", prefix, "result", "miss"));
+        }
+        this.invalidations = meterRegistry.counter("redis.near_cache.invalidations");
+        meterRegistry.gauge("redis.near_cache.size", cache, Cache::estimatedSize);
+        meterRegistry.gauge("redis.near_cache.tracking", this, nearCache -> nearCache.tracking ? 1 : 0);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled || prefixes.isEmpty()) {
+            return;
+        }
+
+        if (!(connectionFactory instanceof LettuceConnectionFactory lettuce)
+                || lettuce.getSentinelConfiguration() != null || lettuce.getClusterConfiguration() != null) {
+            log.warn("redis near cache disabled : only standalone Lettuce connections are supported");
+            return;
+        }
+
+        try {
+            client = createClient(lettuce);
+            StatefulRedisConnection<String, String> connected = client.connect(StringCodec.UTF8);
+            connected.addListener(this::onPush);
+            connected.sync().clientTracking(trackingArgs());
+            connection = connected;
+            tracking = true;
+            log.info("redis near cache enabled : prefixes={}", prefixes);
+        } catch (RedisException e) {
+            log.warn("redis near cache disabled, falling back to plain reads : {}", e.getMessage());
+            shutdownClient();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        tracking = false;
+        shutdownClient();
+    }
+
+    /**
+     * 설정한 접두사의 키면 로컬 캐시에서, 아니면 loader 로 Redis 에서 읽는다.
+     * loader 가 null 을 반환하면 키가 없는 것으로 캐싱한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V get(String key, Function<String, V> loader) {
+        String prefix = prefixOf(key);
+        if (prefix == null || !tracking) {
+            return loader.apply(key);
+        }
+
+        Object cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.get(prefix).increment();
+            return cached == ABSENT ? null : (V) cached;
+        }
+
+        misses.get(prefix).increment();
+        long sequence = invalidationSequence.get();
+        V value = loader.apply(key);
+
+        invalidationLock.readLock().lock();
+        try {
+            if (tracking && invalidationSequence.get() == sequence) {
+                cache.put(key, value == null ? ABSENT : value);
+            }
+        } finally {
+            invalidationLock.readLock().unlock();
+        }
+        return value;
+    }
+
+    private void onPush(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+
+        // [invalidate, 키 목록] 이고 키 목록이 null 이면 FLUSHALL 등으로 전체 무효화
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        invalidate(keys instanceof List<?> list ? list : null);
+    }
+
+    private void invalidate(List<?> keys) {
+        invalidationLock.writeLock().lock();
+        try {
+            invalidationSequence.incrementAndGet();
+            if (keys == null) {
+                cache.invalidateAll();
+            } else {
+                cache.invalidateAll(keys);
+            }
+        } finally {
+            invalidationLock.writeLock().unlock();
+        }
+        invalidations.increment();
+    }
+
+    private String prefixOf(String key) {
+        for (String prefix : prefixes) {
+            if (key.startsWith(prefix)) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    private TrackingArgs trackingArgs() {
+        return TrackingArgs.Builder.enabled().bcast().prefixes(prefixes.toArray(String[]::new));
+    }
+
+    private RedisClient createClient(LettuceConnectionFactory lettuce) {
+        RedisStandaloneConfiguration config = lettuce.getStandaloneConfiguration();
+        RedisURI.Builder uri = RedisURI.builder()
+                .withHost(config.getHostName())
+                .withPort(config.getPort())
+                .withDatabase(config.getDatabase())
+                .withSsl(lettuce.isUseSsl())
+                .withTimeout(Duration.ofMillis(lettuce.getTimeout()));
+        config.getPassword().toOptional().ifPresent(password -> uri.withAuthentication(
+                config.getUsername() == null ? "default" : config.getUsername(), password));
+
+        RedisClient created = lettuce.getClientResources() == null
+                ? RedisClient.create(uri.build())
+                : RedisClient.create(lettuce.getClientResources(), uri.build());
+        created.setOptions(ClientOptions.builder()
+                .protocolVersion(ProtocolVersion.RESP3) // 무효화 메시지는 RESP3 푸시로만 받음
+                .build());
+        created.addListener(new TrackingConnectionListener());
+        return created;
+    }
+
+    private void shutdownClient() {
+        if (client != null) {
+            client.shutdown();
+            client = null;
+        }
+    }
+
+    /**
+     * 끊긴 동안의 무효화는 받을 수 없으므로 캐시를 비우고, 재연결되면 트래킹을 다시 켠 뒤에만 캐시를 사용
+     */
+    private class TrackingConnectionListener implements RedisConnectionStateListener {
+
+        @Override
+        public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+            if (tracking) {
+                log.warn("redis near cache tracking connection lost, falling back to plain reads");
+            }
+            tracking = false;
+            invalidate(null);
+        }
+
+        @Override
+        public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress address) {
+            StatefulRedisConnection<String, String> reconnected = connection;
+            if (reconnected == null) {
+                return; // 최초 연결은 afterPropertiesSet 에서 트래킹을 켬
+            }
+
+            reconnected.async().clientTracking(trackingArgs()).whenComplete((reply, error) -> {
+                if (error != null) {
+                    log.warn("redis near cache tracking re-enable failed : {}", error.getMessage());
+                    return;
+                }
+                invalidate(null);
+                tracking = true;
+                log.info("redis near cache tracking re-enabled");
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package wonjun.stiky.member.batch;
+
+import static wonjun.stiky.generated.Tables.MEMBER;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.jooq.Field;
+import wonjun.stiky.global.exception.CustomException;
+import wonjun.stiky.global.exception.ErrorCode;
+
+/**
+ * 내보낼 수 있는 회원 컬럼 (password 는 제외)
+ */
+public enum MemberExportColumn {
+
+    ID("id", MEMBER.ID),
+    EMAIL("email", MEMBER.EMAIL),
+    NICKNAME("nickname", MEMBER.NICKNAME),
+    ROLE("role", MEMBER.ROLE),
+    PROVIDER("provider", MEMBER.PROVIDER),
+    PROVIDER_ID("provider_id", MEMBER.PROVIDER_ID),
+    SECURITY_VERSION("security_version", MEMBER.SECURITY_VERSION);
+
+    private final String columnName;
+    private final Field<?> field;
+
+    MemberExportColumn(String columnName, Field<?> field) {
+        this.columnName = columnName;
+        this.field = field;
+    }
+
+    public String columnName() {
+        return columnName;
+    }
+
+    public Field<?> field() {
+        return field;
+    }
+
+    // "id,email" 형식. 비어 있으면 전체 컬럼
+    public static List<MemberExportColumn> parse(String columns) {
+        if (columns == null || columns.isBlank()) {
+            return List.of(values());
+        }
+
+        List<MemberExportColumn> parsed = new ArrayList<>();
+        for (String name : columns.split(",")) {
+            MemberExportColumn column = byName(name.trim());
+            if (!parsed.contains(column)) {
+                parsed.add(column);
+            }
+        }
+        return parsed;
+    }
+
+    private static MemberExportColumn byName(String name) {
+        for (MemberExportColumn column : values()) {
+            if (column.columnName.equalsIgnoreCase(name)) {
+                return column;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+}
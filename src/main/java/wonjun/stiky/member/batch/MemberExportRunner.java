@@ -0,0 +1,55 @@
+package wonjun.stiky.member.batch;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 내보내기 CLI
+ * java -jar stiky.jar --spring.main.web-application-type=none --member.export.file=members.ndjson.gz
+ * - 형식은 확장자로 판단하며 출력은 항상 gzip
+ * - --member.export.columns=id,email 로 컬럼 지정 (생략 시 password 를 제외한 전체)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "member.export.file")
+public class MemberExportRunner implements ApplicationRunner {
+
+    private final MemberExportService memberExportService;
+    private final ApplicationContext applicationContext;
+
+    @Value("${member.export.file}")
+    private String file;
+
+    @Value("${member.export.columns:}")
+    private String columns;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path output = Path.of(file);
+        MemberFileFormat format = MemberFileFormat.fromFileName(output.getFileName().toString());
+
+        long startedAt = System.nanoTime();
+        long exported;
+        try (OutputStream out = Files.newOutputStream(output)) {
+            exported = memberExportService.export(out, format, MemberExportColumn.parse(columns));
+        }
+
+        log.info("member export finished : rows={}, elapsed={}ms, file={}",
+                exported, (System.nanoTime() - startedAt) / 1_000_000, output.toAbsolutePath());
+
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+}
@@ -0,0 +1,175 @@
+package wonjun.stiky.member.batch;
+
+import static wonjun.stiky.generated.Tables.MEMBER;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.jooq.Cursor;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import wonjun.stiky.member.repository.MemberRepository;
+
+/**
+ * 회원 테이블 내보내기 (gzip 압축한 NDJSON/CSV)
+ * - id 기준 keyset 범위(range-size)로 나눠 읽고, 각 범위는 MySQL 스트리밍 커서로 한 행씩 받아 바로 씀
+ * - 메모리에는 현재 행과 출력 버퍼만 남으므로 테이블 크기와 무관하게 힙 사용량이 일정
+ * - 범위마다 커서를 닫으므로 커넥션을 내보내기 전체 동안 붙잡지 않음
+ */
+@Service
+public class MemberExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+    private final int rangeSize;
+
+    public MemberExportService(MemberRepository memberRepository,
+                               ObjectMapper objectMapper,
+                               @Value("${member.export.range-size}") int rangeSize) {
+        this.memberRepository = memberRepository;
+        this.objectMapper = objectMapper;
+        this.rangeSize = rangeSize;
+    }
+
+    /**
+     * out 에 gzip 으로 압축해 쓰고 닫는다. 내보낸 행 수를 반환한다.
+     */
+    public long export(OutputStream out, MemberFileFormat format, List<MemberExportColumn> columns)
+            throws IOException {
+        // keyset 페이징을 위해 id 는 항상 조회 (요청하지 않았으면 출력하지 않음)
+        List<Field<?>> fields = new ArrayList<>(columns.stream().<Field<?>>map(MemberExportColumn::field).toList());
+        if (!columns.contains(MemberExportColumn.ID)) {
+            fields.add(MEMBER.ID);
+        }
+
+        long exported = 0;
+        try (RowWriter writer = rowWriter(new GZIPOutputStream(out, BUFFER_SIZE), format, columns)) {
+            long lastId = 0;
+            int rowsInRange;
+            do {
+                rowsInRange = 0;
+                try (Cursor<Record> cursor = memberRepository.streamAfter(fields, lastId, rangeSize)) {
+                    for (Record record : cursor) {
+                        writer.write(record);
+                        lastId = record.get(MEMBER.ID);
+                        rowsInRange++;
+                    }
+                }
+                exported += rowsInRange;
+            } while (rowsInRange == rangeSize);
+        }
+        return exported;
+    }
+
+    private RowWriter rowWriter(OutputStream out, MemberFileFormat format, List<MemberExportColumn> columns)
+            throws IOException {
+        if (format == MemberFileFormat.NDJSON) {
+            return new NdjsonRowWriter(objectMapper.getFactory().createGenerator(out), columns);
+        }
+        return new CsvRowWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE),
+                columns);
+    }
+
+    private interface RowWriter extends Closeable {
+
+        void write(Record record) throws IOException;
+
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+        private final List<MemberExportColumn> columns;
+
+        NdjsonRowWriter(JsonGenerator generator, List<MemberExportColumn> columns) {
+            this.generator = generator;
+            this.generator.setRootValueSeparator(new SerializedString("\n"));
+            this.columns = columns;
+        }
+
+        @Override
+        public void write(Record record) throws IOException {
+            generator.writeStartObject();
+            for (MemberExportColumn column : columns) {
+                Object value = record.get(column.field());
+                generator.writeFieldName(column.columnName());
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Number number) {
+                    generator.writeNumber(number.longValue());
+                } else {
+                    generator.writeString(value.toString());
+                }
+            }
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.writeRaw('\n');
+            generator.close();
+        }
+
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private final List<MemberExportColumn> columns;
+
+        CsvRowWriter(Writer writer, List<MemberExportColumn> columns) throws IOException {
+            this.writer = writer;
+            this.columns = columns;
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(columns.get(i).columnName());
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(Record record) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = record.get(columns.get(i).field());
+                if (value != null) {
+                    writer.write(escape(value.toString()));
+                }
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                    && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+    }
+
+}
@@ -0,0 +1,41 @@
+package wonjun.stiky.member.batch;
+
+import java.util.Locale;
+import wonjun.stiky.global.exception.CustomException;
+import wonjun.stiky.global.exception.ErrorCode;
+
+public enum MemberFileFormat {
+
+    CSV,
+    NDJSON;
+
+    // API 요청 파라미터 (csv, ndjson)
+    public static MemberFileFormat fromParameter(String value) {
+        for (MemberFileFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    public String extension() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    // 파일 확장자로 형식 판단 (.gz 는 압축만 풀고 앞의 확장자로 판단)
+    public static MemberFileFormat fromFileName(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".gz")) {
+            name = name.substring(0, name.length() - 3);
+        }
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("지원하지 않는 파일 형식입니다: " + fileName);
+    }
+
+}
@@ -0,0 +1,12 @@
+package wonjun.stiky.member.batch;
+
+import java.time.Duration;
+
+public record MemberImportResult(long read, long inserted, long duplicates, long invalid, Duration elapsed) {
+
+    public double rowsPerSecond() {
+        long millis = Math.max(elapsed.toMillis(), 1);
+        return read * 1000.0 / millis;
+    }
+
+}
@@ -0,0 +1,24 @@
+package wonjun.stiky.member.batch;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 가져오기 입력 한 줄
+ * - password: 평문 (가져오면서 해싱)
+ * - passwordHash: 기존 시스템에서 이미 해싱된 값 (그대로 저장)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MemberImportRow(String email,
+                              String password,
+                              @JsonAlias("password_hash") String passwordHash,
+                              String nickname,
+                              String role,
+                              String provider,
+                              @JsonAlias("provider_id") String providerId) {
+
+    public boolean hasPasswordHash() {
+        return passwordHash != null && !passwordHash.isBlank();
+    }
+
+}
@@ -0,0 +1,78 @@
+package wonjun.stiky.member.batch;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 가져오기 CLI
+ * java -jar stiky.jar --spring.main.web-application-type=none --member.import.file=members.csv.gz
+ * - 형식은 확장자로 판단 (.csv, .ndjson, .jsonl, 각각 .gz 가능)
+ * - 중복 이메일은 <파일>.duplicates.txt 에 한 줄씩 기록
+ * - 끝나면 결과를 로그로 남기고 애플리케이션을 종료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "member.import.file")
+public class MemberImportRunner implements ApplicationRunner {
+
+    private final MemberImportService memberImportService;
+    private final ApplicationContext applicationContext;
+
+    @Value("${member.import.file}")
+    private String file;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path input = Path.of(file);
+        Path duplicatesReport = Path.of(file + ".duplicates.txt");
+        MemberFileFormat format = MemberFileFormat.fromFileName(input.getFileName().toString());
+
+        MemberImportResult result;
+        try (BufferedReader reader = open(input);
+             BufferedWriter duplicates = Files.newBufferedWriter(duplicatesReport, StandardCharsets.UTF_8)) {
+            result = memberImportService.importMembers(reader, format, email -> writeLine(duplicates, email));
+        }
+
+        log.info("member import finished : read={}, inserted={}, duplicates={}, invalid={}, elapsed={}, rows/s={}",
+                result.read(), result.inserted(), result.duplicates(), result.invalid(), result.elapsed(),
+                String.format("%.1f", result.rowsPerSecond()));
+
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+    private BufferedReader open(Path input) throws IOException {
+        InputStream in = Files.newInputStream(input);
+        if (input.getFileName().toString().endsWith(".gz")) {
+            in = new GZIPInputStream(in, 64 * 1024);
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    private void writeLine(BufferedWriter writer, String line) {
+        try {
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,263 @@
+package wonjun.stiky.member.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import wonjun.stiky.member.domain.Member;
+import wonjun.stiky.member.repository.MemberRepository;
+import wonjun.stiky.member.service.MemberQueryService;
+
+/**
+ * 기존 시스템 회원 대량 가져오기
+ * - 입력은 한 줄씩 읽고 chunk-size 단위로만 메모리에 올림
+ * - 청크마다: 파일 내 중복 제거 → 기존 이메일 조회(IN 1회) → 평문 비밀번호 병렬 해싱 → multi-row INSERT 1회
+ * - 중복 이메일은 duplicateSink 로 전달 (해싱 전에 걸러내므로 BCrypt 비용도 들지 않음)
+ * - 저장된 이메일은 청크마다 회원 캐시에서 비움 (가져오기 전에 캐시된 '없는 이메일' 로 로그인이 거부되지 않도록)
+ * - 읽을 수 없는 줄과 저장이 거부된 행은 invalid 로 세고 건너뜀 (이미 커밋된 청크가 있으므로 중간에 멈추지 않음)
+ * - CSV 는 첫 줄이 헤더이며 한 필드 안의 줄바꿈은 지원하지 않음
+ */
+@Slf4j
+@Service
+public class MemberImportService {
+
+    private static final String DEFAULT_ROLE = "ROLE_USER";
+    private static final String DEFAULT_PROVIDER = "local";
+
+    private final MemberRepository memberRepository;
+    private final MemberQueryService memberQueryService;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int hashParallelism;
+
+    public MemberImportService(MemberRepository memberRepository,
+                               MemberQueryService memberQueryService,
+                               PasswordEncoder passwordEncoder,
+                               ObjectMapper objectMapper,
+                               @Value("${member.import.chunk-size}") int chunkSize,
+                               @Value("${member.import.hash-parallelism}") int hashParallelism) {
+        this.memberRepository = memberRepository;
+        this.memberQueryService = memberQueryService;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.hashParallelism = hashParallelism > 0 ? hashParallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    public MemberImportResult importMembers(BufferedReader reader, MemberFileFormat format,
+                                            Consumer<String> duplicateSink) {
+        long startedAt = System.nanoTime();
+        ImportCounts counts = new ImportCounts();
+
+        // 로그인 요청이 쓰는 해싱 풀과 분리해 가져오기가 로그인 처리를 막지 않도록 함
+        ForkJoinPool hashingPool = new ForkJoinPool(hashParallelism);
+        try {
+            Iterator<MemberImportRow> rows = rows(reader, format);
+            List<MemberImportRow> chunk = new ArrayList<>(chunkSize);
+            while (rows.hasNext()) {
+                chunk.add(rows.next());
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, hashingPool, duplicateSink, counts);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, hashingPool, duplicateSink, counts);
+        } finally {
+            hashingPool.shutdown();
+        }
+
+        return new MemberImportResult(counts.read, counts.inserted, counts.duplicates, counts.invalid,
+                Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private void importChunk(List<MemberImportRow> chunk, ForkJoinPool hashingPool,
+                             Consumer<String> duplicateSink, ImportCounts counts) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        counts.read += chunk.size();
+
+        Map<String, MemberImportRow> unique = new HashMap<>(chunk.size() * 2);
+        for (MemberImportRow row : chunk) {
+            if (row == null || row.email() == null || row.email().isBlank()) {
+                counts.invalid++;
+                continue;
+            }
+            if (unique.putIfAbsent(row.email(), row) != null) {
+                counts.duplicates++;
+                duplicateSink.accept(row.email());
+            }
+        }
+
+        Set<String> existing = memberRepository.findExistingEmails(unique.keySet());
+        for (String email : existing) {
+            unique.remove(email);
+            counts.duplicates++;
+            duplicateSink.accept(email);
+        }
+
+        List<MemberImportRow> candidates = new ArrayList<>(unique.values());
+        List<Member> members = hashingPool.submit(() -> candidates.parallelStream()
+                .map(this::toMember)
+                .toList()).join();
+
+        List<String> inserted;
+        try {
+            counts.inserted += memberRepository.insertAll(members);
+            inserted = members.stream().map(Member::getEmail).toList();
+        } catch (DataAccessException e) {
+            // 조회와 INSERT 사이에 다른 경로로 가입됐거나 일부 행이 컬럼 제약을 어김 -> 행 단위로 다시 넣어 행별로 기록
+            log.warn("member import chunk rejected, retrying row by row : {}", e.getMostSpecificCause().getMessage());
+            inserted = insertEach(members, duplicateSink, counts);
+        }
+        memberQueryService.recordWrites(inserted);
+    }
+
+    // 저장된 이메일 목록을 반환
+    private List<String> insertEach(List<Member> members, Consumer<String> duplicateSink, ImportCounts counts) {
+        List<String> inserted = new ArrayList<>(members.size());
+        for (Member member : members) {
+            try {
+                memberRepository.save(member);
+                counts.inserted++;
+                inserted.add(member.getEmail());
+            } catch (DuplicateKeyException e) {
+                counts.duplicates++;
+                duplicateSink.accept(member.getEmail());
+            } catch (DataAccessException e) {
+                counts.invalid++;
+                log.warn("member import rejected row : email={}, reason={}", member.getEmail(),
+                        e.getMostSpecificCause().getMessage());
+            }
+        }
+        return inserted;
+    }
+
+    private Member toMember(MemberImportRow row) {
+        return Member.builder()
+                .email(row.email())
+                .password(passwordOf(row))
+                .nickname(row.nickname())
+                .role(row.role() == null || row.role().isBlank() ? DEFAULT_ROLE : row.role())
+                .provider(row.provider() == null || row.provider().isBlank() ? DEFAULT_PROVIDER : row.provider())
+                .providerId(row.providerId())
+                .build();
+    }
+
+    private String passwordOf(MemberImportRow row) {
+        if (row.hasPasswordHash()) {
+            return row.passwordHash();
+        }
+        if (row.password() == null || row.password().isEmpty()) {
+            return UUID.randomUUID().toString(); // 소셜 계정 등 비밀번호가 없는 회원은 더미 패스워드
+        }
+        return passwordEncoder.encode(row.password());
+    }
+
+    // 읽을 수 없는 줄은 null 로 넘겨 importChunk 에서 invalid 로 셈
+    private Iterator<MemberImportRow> rows(BufferedReader reader, MemberFileFormat format) {
+        if (format == MemberFileFormat.NDJSON) {
+            AtomicLong lineNumber = new AtomicLong();
+            return reader.lines()
+                    .peek(line -> lineNumber.incrementAndGet())
+                    .filter(line -> !line.isBlank())
+                    .map(line -> parseJson(lineNumber.get(), line))
+                    .iterator();
+        }
+
+        String headerLine = readLine(reader);
+        if (headerLine == null) {
+            return Collections.emptyIterator();
+        }
+        List<String> header = parseCsvLine(headerLine).stream()
+                .map(name -> name.replace("_", "").toLowerCase(Locale.ROOT))
+                .toList();
+        return reader.lines().filter(line -> !line.isBlank()).map(line -> parseCsv(header, line)).iterator();
+    }
+
+    private String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 줄 내용에는 평문 비밀번호가 있을 수 있으므로 줄 번호만 남김
+    private MemberImportRow parseJson(long lineNumber, String line) {
+        try {
+            return objectMapper.readValue(line, MemberImportRow.class);
+        } catch (JsonProcessingException e) {
+            log.warn("member import skipped unreadable line {} : {}", lineNumber, e.getOriginalMessage());
+            return null;
+        }
+    }
+
+    private MemberImportRow parseCsv(List<String> header, String line) {
+        List<String> values = parseCsvLine(line);
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            fields.put(header.get(i), values.get(i).isEmpty() ? null : values.get(i));
+        }
+        return new MemberImportRow(fields.get("email"), fields.get("password"), fields.get("passwordhash"),
+                fields.get("nickname"), fields.get("role"), fields.get("provider"), fields.get("providerid"));
+    }
+
+    // RFC 4180 의 큰따옴표 규칙만 처리 ("" 는 따옴표 한 개)
+    private static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static final class ImportCounts {
+        long read;
+        long inserted;
+        long duplicates;
+        long invalid;
+    }
+
+}
@@ -0,0 +1,37 @@
+package wonjun.stiky.member.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import wonjun.stiky.member.batch.MemberExportColumn;
+import wonjun.stiky.member.batch.MemberExportService;
+import wonjun.stiky.member.batch.MemberFileFormat;
+
+@RestController
+@RequiredArgsConstructor
+public class AdminMemberController {
+
+    private final MemberExportService memberExportService;
+
+    // 응답 스트림에 바로 쓰므로 회원 수와 관계없이 메모리에 전체를 올리지 않음
+    @GetMapping("/api/admin/members/export")
+    public void export(@RequestParam(defaultValue = "ndjson") String format,
+                       @RequestParam(required = false) String columns,
+                       HttpServletResponse response) throws IOException {
+        MemberFileFormat fileFormat = MemberFileFormat.fromParameter(format);
+
+        response.setContentType("application/gzip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("members." + fileFormat.extension() + ".gz")
+                .build()
+                .toString());
+
+        memberExportService.export(response.getOutputStream(), fileFormat, MemberExportColumn.parse(columns));
+    }
+
+}
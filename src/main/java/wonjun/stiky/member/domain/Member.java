@@ -17,9 +17,11 @@ public class Member {
     private String role;
     private String provider;
     private String providerId;
+    private Integer securityVersion; // 권한 변경·계정 잠금 시 증가시켜 기존 토큰을 무효화
 
     @Builder
-    public Member(Long id, String email, String password, String nickname, String role, String provider, String providerId) {
+    public Member(Long id, String email, String password, String nickname, String role, String provider, String providerId,
+                  Integer securityVersion) {
         this.id = id;
         this.email = email;
         this.password = password;
@@ -27,6 +29,7 @@ public class Member {
         this.role = role;
         this.provider = provider;
         this.providerId = providerId;
+        this.securityVersion = securityVersion;
     }
 
     public void updateSocialInfo(String provider, String providerId) {
@@ -35,4 +38,8 @@ public class Member {
         }
         this.providerId = providerId;
     }
+
+    public MemberPrincipal toPrincipal() {
+        return new MemberPrincipal(id, email, role, securityVersion);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package wonjun.stiky.member.domain;
+
+/**
+ * 인증 주체와 토큰 발급에 필요한 회원 정보만 담은 투영 (비밀번호 등 제외)
+ */
+public record MemberPrincipal(
+        Long id,
+        String email,
+        String role,
+        Integer securityVersion
+) {
+}
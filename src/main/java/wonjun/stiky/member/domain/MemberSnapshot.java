@@ -0,0 +1,31 @@
+package wonjun.stiky.member.domain;
+
+import java.util.Objects;
+
+/**
+ * 조회 전용 회원 정보 (불변)
+ * - 캐시에 그대로 두고 여러 요청이 공유해도 안전하므로 조회마다 복사하지 않음
+ * - 변경은 Member 로 만들어 MemberQueryService 를 통해 저장
+ * - 비밀번호 해시는 담지 않음 (Redis 캐시로 퍼지지 않도록, 비밀번호 로그인에서만 DB 에서 읽음)
+ */
+public record MemberSnapshot(
+        Long id,
+        String email,
+        String nickname,
+        String role,
+        String provider,
+        String providerId,
+        Integer securityVersion
+) {
+
+    public MemberPrincipal principal() {
+        return new MemberPrincipal(id, email, role, securityVersion);
+    }
+
+    // Member.updateSocialInfo 를 적용해도 바뀌는 값이 없으면 true
+    public boolean isSocialInfoUpToDate(String provider, String providerId) {
+        boolean providerKept = "local".equals(this.provider) || Objects.equals(this.provider, provider);
+        return providerKept && Objects.equals(this.providerId, providerId);
+    }
+
+}
@@ -0,0 +1,33 @@
+package wonjun.stiky.member.repository;
+
+import org.jooq.Record4;
+import org.jooq.RecordMapper;
+import org.jooq.Records;
+import wonjun.stiky.generated.tables.records.MemberRecord;
+import wonjun.stiky.member.domain.MemberPrincipal;
+import wonjun.stiky.member.domain.MemberSnapshot;
+
+/**
+ * 회원 조회 결과 매핑
+ * - fetchInto(Member.class) 는 DefaultRecordMapper 가 리플렉션으로 생성자·setter 를 찾아 호출함
+ * - 여기서는 생성된 MemberRecord 의 위치 기반 getter 와 레코드 생성자를 직접 호출해 리플렉션 없이 매핑
+ */
+final class MemberRecordMappers {
+
+    static final RecordMapper<MemberRecord, MemberSnapshot> SNAPSHOT = record -> new MemberSnapshot(
+            record.getId(),
+            record.getEmail(),
+            record.getNickname(),
+            record.getRole(),
+            record.getProvider(),
+            record.getProviderId(),
+            record.getSecurityVersion());
+
+    // select(MEMBER.ID, MEMBER.EMAIL, MEMBER.ROLE, MEMBER.SECURITY_VERSION) 결과용
+    static final RecordMapper<Record4<Long, String, String, Integer>, MemberPrincipal> PRINCIPAL =
+            Records.mapping(MemberPrincipal::new);
+
+    private MemberRecordMappers() {
+    }
+
+}
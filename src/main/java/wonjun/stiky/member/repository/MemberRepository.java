@@ -1,13 +1,24 @@
 package wonjun.stiky.member.repository;
 
 import static wonjun.stiky.generated.Tables.MEMBER;
+import static wonjun.stiky.generated.Tables.MEMBER_IDENTITY;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStep6;
+import org.jooq.Record;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 import wonjun.stiky.generated.tables.records.MemberRecord;
 import wonjun.stiky.member.domain.Member;
+import wonjun.stiky.member.domain.MemberPrincipal;
+import wonjun.stiky.member.domain.MemberSnapshot;
 
 @Repository
 @RequiredArgsConstructor
@@ -15,10 +26,61 @@ public class MemberRepository {
 
     private final DSLContext dsl;
 
-    public Optional<Member> findByEmail(String email) {
+    public Optional<MemberSnapshot> findByEmail(String email) {
         return dsl.selectFrom(MEMBER)
                 .where(MEMBER.EMAIL.eq(email))
-                .fetchOptionalInto(Member.class);
+                .fetchOptional(MemberRecordMappers.SNAPSHOT);
+    }
+
+    // id·이메일·역할·보안 버전만 필요한 경우 (비밀번호 해시 등 나머지 컬럼은 읽지 않음)
+    public Optional<MemberPrincipal> findPrincipalById(Long id) {
+        return dsl.select(MEMBER.ID, MEMBER.EMAIL, MEMBER.ROLE, MEMBER.SECURITY_VERSION)
+                .from(MEMBER)
+                .where(MEMBER.ID.eq(id))
+                .fetchOptional(MemberRecordMappers.PRINCIPAL);
+    }
+
+    /**
+     * 소셜 로그인 콜백의 회원 조회. member_identity PK 로 member_id 를 찾고 member PK 로 읽는다.
+     */
+    public Optional<MemberSnapshot> findBySocialIdentity(String provider, String providerSubject) {
+        return dsl.selectFrom(MEMBER)
+                .where(MEMBER.ID.eq(dsl.select(MEMBER_IDENTITY.MEMBER_ID)
+                        .from(MEMBER_IDENTITY)
+                        .where(MEMBER_IDENTITY.PROVIDER.eq(provider))
+                        .and(MEMBER_IDENTITY.PROVIDER_SUBJECT.eq(providerSubject))))
+                .fetchOptional(MemberRecordMappers.SNAPSHOT);
+    }
+
+    /**
+     * 제공자 계정으로 연결된 회원의 이메일과 provider/provider_id 를 제공자 쪽 값으로 갱신한다.
+     * - 닉네임은 앱에서 정한 값을 유지
+     * - provider 가 local 이면 유지 (Member.updateSocialInfo 와 동일)
+     * - 바뀐 이메일을 다른 회원이 쓰고 있으면 unique 인덱스 충돌로 DuplicateKeyException
+     */
+    public void updateSocialProfile(Long id, Member member) {
+        dsl.update(MEMBER)
+                .set(MEMBER.EMAIL, member.getEmail())
+                .set(MEMBER.PROVIDER, DSL.when(MEMBER.PROVIDER.eq("local"), MEMBER.PROVIDER)
+                        .otherwise(member.getProvider()))
+                .set(MEMBER.PROVIDER_ID, member.getProviderId())
+                .where(MEMBER.ID.eq(id))
+                .execute();
+    }
+
+    // 비밀번호 로그인 전용. 해시는 회원 캐시에 두지 않으므로 매번 DB 에서 읽음
+    public Optional<String> findPassword(Long id) {
+        return dsl.select(MEMBER.PASSWORD)
+                .from(MEMBER)
+                .where(MEMBER.ID.eq(id))
+                .fetchOptional(MEMBER.PASSWORD);
+    }
+
+    public Optional<Integer> findSecurityVersion(Long id) {
+        return dsl.select(MEMBER.SECURITY_VERSION)
+                .from(MEMBER)
+                .where(MEMBER.ID.eq(id))
+                .fetchOptional(MEMBER.SECURITY_VERSION);
     }
 
     public Long save(Member member) {
@@ -29,6 +91,111 @@ public class MemberRepository {
         return update(member);
     }
 
+    /**
+     * 소셜 로그인 회원을 한 문장으로 저장하고 id 를 반환한다 (INSERT ... ON DUPLICATE KEY UPDATE)
+     * - 이미 있으면 provider/provider_id 만 갱신하고, provider 가 local 이면 유지 (Member.updateSocialInfo 와 동일)
+     * - 값이 같으면 MySQL 이 행을 다시 쓰지 않음
+     * - 같은 이메일의 동시 로그인도 unique 인덱스 충돌 없이 처리
+     * - MySQL 에는 RETURNING 이 없으므로 중복 시 id = LAST_INSERT_ID(id) 로 기존 id 를 세션 값에 남김.
+     *   id 를 따로 읽지 않고 linkIdentityToUpserted 가 같은 커넥션에서 그대로 사용
+     */
+    public void upsertSocial(Member member) {
+        dsl.insertInto(MEMBER)
+                .set(MEMBER.EMAIL, member.getEmail())
+                .set(MEMBER.PASSWORD, member.getPassword())
+                .set(MEMBER.NICKNAME, member.getNickname())
+                .set(MEMBER.ROLE, member.getRole())
+                .set(MEMBER.PROVIDER, member.getProvider())
+                .set(MEMBER.PROVIDER_ID, member.getProviderId())
+                .onDuplicateKeyUpdate()
+                .set(MEMBER.ID, DSL.field("LAST_INSERT_ID({0})", Long.class, MEMBER.ID))
+                .set(MEMBER.PROVIDER, DSL.when(MEMBER.PROVIDER.eq("local"), MEMBER.PROVIDER)
+                        .otherwise(member.getProvider()))
+                .set(MEMBER.PROVIDER_ID, member.getProviderId())
+                .execute();
+    }
+
+    /**
+     * 직전 upsertSocial 로 저장된 회원에 제공자 계정을 연결한다. 이미 연결된 계정은 다른 회원으로 옮기지 않는다.
+     * member_id 는 upsertSocial 이 세션에 남긴 LAST_INSERT_ID() 로 채우므로 같은 트랜잭션 안에서 이어서 호출해야 함
+     */
+    public void linkIdentityToUpserted(String provider, String providerSubject) {
+        dsl.insertInto(MEMBER_IDENTITY)
+                .set(MEMBER_IDENTITY.PROVIDER, provider)
+                .set(MEMBER_IDENTITY.PROVIDER_SUBJECT, providerSubject)
+                .set(MEMBER_IDENTITY.MEMBER_ID, DSL.field("LAST_INSERT_ID()", Long.class))
+                .onDuplicateKeyIgnore()
+                .execute();
+    }
+
+    // 대량 가져오기에서 중복 이메일을 미리 걸러낼 때 사용
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return dsl.select(MEMBER.EMAIL)
+                .from(MEMBER)
+                .where(MEMBER.EMAIL.in(emails))
+                .fetchSet(MEMBER.EMAIL);
+    }
+
+    /**
+     * 여러 회원을 multi-row INSERT 한 문장으로 저장하고 들어간 행 수를 반환한다.
+     * 한 행이라도 중복 키나 컬럼 제약에 걸리면 문장 전체가 실패하므로 (INSERT IGNORE 처럼 경고로 묻히지 않음)
+     * 호출자가 행 단위로 다시 넣어 원인을 기록한다.
+     */
+    public int insertAll(List<Member> members) {
+        if (members.isEmpty()) {
+            return 0;
+        }
+
+        InsertValuesStep6<MemberRecord, String, String, String, String, String, String> insert = dsl.insertInto(
+                MEMBER, MEMBER.EMAIL, MEMBER.PASSWORD, MEMBER.NICKNAME, MEMBER.ROLE, MEMBER.PROVIDER,
+                MEMBER.PROVIDER_ID);
+        for (Member member : members) {
+            insert = insert.values(member.getEmail(), member.getPassword(), member.getNickname(), member.getRole(),
+                    member.getProvider(), member.getProviderId());
+        }
+        return insert.execute();
+    }
+
+    /**
+     * id 가 afterId 보다 큰 행을 id 순으로 최대 limit 개 읽는 커서 (keyset 페이지)
+     * - fetchSize 가 Integer.MIN_VALUE 이면 MySQL 드라이버가 결과를 한 행씩 스트리밍
+     * - 커서를 닫을 때까지 커넥션을 점유하므로 호출자가 반드시 닫아야 함
+     */
+    public Cursor<Record> streamAfter(List<Field<?>> fields, long afterId, int limit) {
+        return dsl.select(fields)
+                .from(MEMBER)
+                .where(MEMBER.ID.gt(afterId))
+                .orderBy(MEMBER.ID.asc())
+                .limit(limit)
+                .fetchSize(Integer.MIN_VALUE)
+                .fetchLazy();
+    }
+
+    public void updatePassword(Long id, String password) {
+        dsl.update(MEMBER)
+                .set(MEMBER.PASSWORD, password)
+                .where(MEMBER.ID.eq(id))
+                .execute();
+    }
+
+    public void updateRole(Long id, String role) {
+        dsl.update(MEMBER)
+                .set(MEMBER.ROLE, role)
+                .where(MEMBER.ID.eq(id))
+                .execute();
+    }
+
+    // 토큰의 sv 클레임과 달라지므로 이전에 발급한 액세스 토큰이 거부됨 (MemberSecurityVersionCache)
+    public void incrementSecurityVersion(Long id) {
+        dsl.update(MEMBER)
+                .set(MEMBER.SECURITY_VERSION, MEMBER.SECURITY_VERSION.plus(1))
+                .where(MEMBER.ID.eq(id))
+                .execute();
+    }
+
     private Long insert(Member member) {
         MemberRecord record = dsl.insertInto(MEMBER)
                 .set(MEMBER.EMAIL, member.getEmail())
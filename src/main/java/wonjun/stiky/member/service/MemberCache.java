@@ -0,0 +1,220 @@
+package wonjun.stiky.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import wonjun.stiky.global.datasource.ReadYourWritesTracker;
+import wonjun.stiky.member.domain.MemberSnapshot;
+
+/**
+ * 이메일 기준 회원 조회 캐시
+ * - 1차: 인스턴스 로컬 (크기·TTL 제한)
+ * - 2차: Redis (MemberCacheCodec 포맷)
+ * - 없는 이메일도 짧게 캐싱해 반복 조회가 DB까지 가지 않도록 함
+ * - 변경 시 pub/sub 으로 모든 인스턴스의 1차 캐시를 비움
+ * - replica 를 쓰면 redelete-delay 뒤에 한 번 더 비움. 다른 인스턴스가 지연 구간에 replica 에서 읽은 이전 값을
+ *   2차 캐시에 다시 써 넣어도 redis-ttl 동안 남지 않도록 함
+ */
+@Slf4j
+@Component
+public class MemberCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "MEMBER:";
+    private static final String INVALIDATE_CHANNEL = "MEMBER_CACHE_INVALIDATE";
+    private static final String MESSAGE_SEPARATOR = "\n"; // 이메일에는 줄바꿈이 없음
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<String, Optional<MemberSnapshot>> localCache;
+    private final Duration redisTtl;
+    private final Duration negativeTtl;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter invalidations;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final TaskScheduler taskScheduler;
+    private final Duration redeleteDelay; // 0 이면 다시 비우지 않음
+
+    public MemberCache(RedisTemplate<String, byte[]> binaryRedisTemplate,
+                       RedisTemplate<String, Object> redisTemplate,
+                       RedisMessageListenerContainer listenerContainer,
+                       MeterRegistry meterRegistry,
+                       ReadYourWritesTracker readYourWritesTracker,
+                       TaskScheduler taskScheduler,
+                       @Value("${member.cache.local-max-size}") long localMaxSize,
+                       @Value("${member.cache.local-ttl}") Duration localTtl,
+                       @Value("${member.cache.redis-ttl}") Duration redisTtl,
+                       @Value("${member.cache.negative-ttl}") Duration negativeTtl,
+                       @Value("${datasource.replica.enabled}") boolean replicaEnabled,
+                       @Value("${member.cache.redelete-delay}") Duration redeleteDelay) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.redisTemplate = redisTemplate;
+        this.redisTtl = redisTtl;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.negativeTtl = negativeTtl;
+        this.taskScheduler = taskScheduler;
+        this.redeleteDelay = replicaEnabled ? redeleteDelay : Duration.ZERO;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfter(new LocalExpiry(localTtl.toNanos(), Math.min(localTtl.toNanos(), negativeTtl.toNanos())))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "member", "tier", "local");
+        this.redisHits = meterRegistry.counter("cache.gets", "cache", "member", "tier", "redis", "result", "hit");
+        this.redisMisses = meterRegistry.counter("cache.gets", "cache", "member", "tier", "redis", "result", "miss");
+        this.invalidations = meterRegistry.counter("cache.invalidations", "cache", "member");
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    public Optional<MemberSnapshot> get(String email, Function<String, Optional<MemberSnapshot>> loader) {
+        return localCache.get(email, key -> loadThroughRedis(key, loader)); // 불변이므로 그대로 공유
+    }
+
+    /**
+     * 회원 정보가 바뀌면 호출. 트랜잭션 중이면 커밋 이후에 전파한다.
+     */
+    public void invalidate(String email) {
+        invalidateAll(List.of(email));
+    }
+
+    /**
+     * 여러 회원을 한 번에 비운다 (대량 가져오기). Redis DEL 과 PUBLISH 를 이메일마다가 아니라 한 번씩만 보냄
+     */
+    public void invalidateAll(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        localCache.invalidateAll(emails);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateEverywhere(emails);
+                    scheduleRedelete(emails);
+                }
+            });
+            return;
+        }
+
+        invalidateEverywhere(emails);
+        scheduleRedelete(emails);
+    }
+
+    // 다른 인스턴스에서 변경된 회원도 잠시 primary 에서 읽도록 함 (메시지는 줄바꿈으로 구분한 이메일 목록)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        for (String email : new String(message.getBody(), StandardCharsets.UTF_8).split(MESSAGE_SEPARATOR)) {
+            readYourWritesTracker.recordWrite(email);
+            localCache.invalidate(email);
+        }
+    }
+
+    private Optional<MemberSnapshot> loadThroughRedis(String email, Function<String, Optional<MemberSnapshot>> loader) {
+        String key = KEY_PREFIX + email;
+
+        byte[] encoded = readRedis(key);
+        if (encoded != null) {
+            if (MemberCacheCodec.isNotFound(encoded)) {
+                redisHits.increment();
+                return Optional.empty();
+            }
+
+            MemberSnapshot decoded = MemberCacheCodec.decode(encoded);
+            if (decoded != null) {
+                redisHits.increment();
+                return Optional.of(decoded);
+            }
+        }
+
+        redisMisses.increment();
+        Optional<MemberSnapshot> loaded = loader.apply(email);
+        writeRedis(key, loaded);
+        return loaded;
+    }
+
+    private byte[] readRedis(String key) {
+        try {
+            return binaryRedisTemplate.opsForValue().get(key);
+        } catch (DataAccessException e) {
+            log.warn("member cache read failed : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, Optional<MemberSnapshot> member) {
+        try {
+            if (member.isPresent()) {
+                binaryRedisTemplate.opsForValue().set(key, MemberCacheCodec.encode(member.get()), redisTtl);
+            } else {
+                binaryRedisTemplate.opsForValue().set(key, MemberCacheCodec.NOT_FOUND, negativeTtl);
+            }
+        } catch (DataAccessException e) {
+            log.warn("member cache write failed : {}", e.getMessage());
+        }
+    }
+
+    private void scheduleRedelete(Collection<String> emails) {
+        if (redeleteDelay.isZero()) {
+            return;
+        }
+        taskScheduler.schedule(() -> invalidateEverywhere(emails), Instant.now().plus(redeleteDelay));
+    }
+
+    private void invalidateEverywhere(Collection<String> emails) {
+        invalidations.increment(emails.size());
+        localCache.invalidateAll(emails);
+        try {
+            binaryRedisTemplate.delete(emails.stream().map(email -> KEY_PREFIX + email).toList());
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.join(MESSAGE_SEPARATOR, emails));
+        } catch (DataAccessException e) {
+            log.warn("member cache invalidation failed : {}", e.getMessage());
+        }
+    }
+
+    private record LocalExpiry(long positiveTtlNanos, long negativeTtlNanos)
+            implements Expiry<String, Optional<MemberSnapshot>> {
+
+        @Override
+        public long expireAfterCreate(String key, Optional<MemberSnapshot> value, long currentTime) {
+            return value.isPresent() ? positiveTtlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<MemberSnapshot> value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<MemberSnapshot> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
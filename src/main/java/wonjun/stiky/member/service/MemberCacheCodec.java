@@ -0,0 +1,92 @@
+package wonjun.stiky.member.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import wonjun.stiky.member.domain.MemberSnapshot;
+
+/**
+ * Redis에 저장하는 MemberSnapshot 바이너리 포맷
+ * [version(1)] [null 플래그(1)] [id(8)] [문자열 필드...] [securityVersion(4)]
+ * - 존재하지 않는 회원은 NOT_FOUND 1바이트로 표현 (네거티브 캐시)
+ * - 비밀번호 해시 등 비밀 값은 넣지 않음 (version 1 은 해시를 포함했으므로 읽지 않고 DB 에서 다시 채움)
+ */
+final class MemberCacheCodec {
+
+    static final byte[] NOT_FOUND = {0};
+
+    private static final byte VERSION = 2;
+
+    private MemberCacheCodec() {
+    }
+
+    static byte[] encode(MemberSnapshot member) {
+        String[] values = stringFields(member);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(nullFlags(values));
+            out.writeLong(member.id());
+            for (String value : values) {
+                if (value != null) {
+                    out.writeUTF(value);
+                }
+            }
+            out.writeInt(member.securityVersion() == null ? 0 : member.securityVersion());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static boolean isNotFound(byte[] encoded) {
+        return encoded.length == 1 && encoded[0] == NOT_FOUND[0];
+    }
+
+    /**
+     * 알 수 없는 버전이면 null 을 반환해 DB에서 다시 읽도록 한다.
+     */
+    static MemberSnapshot decode(byte[] encoded) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+            if (in.readByte() != VERSION) {
+                return null;
+            }
+
+            int flags = in.readUnsignedByte();
+            long id = in.readLong();
+            String[] values = new String[5];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (flags & (1 << i)) == 0 ? in.readUTF() : null;
+            }
+
+            return new MemberSnapshot(id, values[0], values[1], values[2], values[3], values[4], in.readInt());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String[] stringFields(MemberSnapshot member) {
+        return new String[]{
+                member.email(),
+                member.nickname(),
+                member.role(),
+                member.provider(),
+                member.providerId()
+        };
+    }
+
+    private static int nullFlags(String[] values) {
+        int flags = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                flags |= 1 << i;
+            }
+        }
+        return flags;
+    }
+
+}
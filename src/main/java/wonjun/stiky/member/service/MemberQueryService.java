@@ -1,12 +1,19 @@
 package wonjun.stiky.member.service;
 
+import java.util.Collection;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import wonjun.stiky.global.exception.CustomException;
+import wonjun.stiky.global.datasource.DataSourceRouting;
+import wonjun.stiky.global.datasource.ReadYourWritesTracker;
 import wonjun.stiky.global.exception.ErrorCode;
 import wonjun.stiky.member.domain.Member;
+import wonjun.stiky.member.domain.MemberPrincipal;
+import wonjun.stiky.member.domain.MemberSnapshot;
 import wonjun.stiky.member.repository.MemberRepository;
 
 @Service
@@ -15,19 +22,143 @@ import wonjun.stiky.member.repository.MemberRepository;
 public class MemberQueryService {
 
     private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
-    public Member fetchByEmail(String email) {
-        return memberRepository.findByEmail(email)
+    // 캐시 적중 시 커넥션을 잡지 않도록 진행 중인 트랜잭션이 없으면 새로 열지 않음
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public MemberSnapshot fetchByEmail(String email) {
+        return fetchByEmailOpt(email)
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
     }
 
-    public Optional<Member> fetchByEmailOpt(String email) {
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Optional<MemberSnapshot> fetchByEmailOpt(String email) {
+        return memberCache.get(email, this::loadByEmail);
+    }
+
+    // 방금 변경된 회원은 replica 에 아직 반영되지 않았을 수 있으므로 primary 에서 읽음
+    private Optional<MemberSnapshot> loadByEmail(String email) {
+        if (readYourWritesTracker.isRecentlyWritten(email)) {
+            return DataSourceRouting.onPrimary(() -> memberRepository.findByEmail(email));
+        }
         return memberRepository.findByEmail(email);
     }
 
+    public Optional<MemberSnapshot> fetchBySocialIdentity(String provider, String providerSubject) {
+        return memberRepository.findBySocialIdentity(provider, providerSubject);
+    }
+
+    // 토큰의 mid 클레임으로 조회 (PK 조회, 이메일이 바뀌어도 같은 회원)
+    public MemberPrincipal fetchPrincipal(Long id) {
+        return fetchPrincipalOpt(id)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+    }
+
+    public Optional<MemberPrincipal> fetchPrincipalOpt(Long id) {
+        return memberRepository.findPrincipalById(id);
+    }
+
+    public String fetchPassword(Long id) {
+        return memberRepository.findPassword(id)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+    }
+
+    // 권한 변경·잠금으로 올라간 버전을 replica 지연 때문에 놓치지 않도록 primary 에서 읽음 (MemberSecurityVersionCache 가 주기 캐싱)
+    public Optional<Integer> fetchSecurityVersion(Long id) {
+        return DataSourceRouting.onPrimary(() -> memberRepository.findSecurityVersion(id));
+    }
+
     @Transactional
     public Long save(Member member) {
-        return memberRepository.save(member);
+        Long id = memberRepository.save(member);
+        readYourWritesTracker.recordWrite(member.getEmail());
+        memberCache.invalidate(member.getEmail());
+        return id;
+    }
+
+    /**
+     * 소셜 로그인 회원 저장
+     * - 제공자 계정이 이미 연결돼 있으면 그 회원의 이메일·provider 정보만 갱신 (제공자 쪽 이메일이 바뀌어도 같은 회원 유지)
+     * - 연결이 없으면 이메일로 upsert 하고 연결. 연결 전에 가입한 회원도 첫 로그인 때 이메일로 찾아 연결됨
+     * - 바뀐 이메일을 이미 다른 회원이 쓰고 있으면 그 회원으로 로그인되지 않도록 거부
+     *
+     * @param linked 호출자가 fetchBySocialIdentity 로 이미 찾은 연결 회원, 없으면 null (같은 조회를 다시 하지 않음)
+     */
+    @Transactional
+    public void upsertSocial(Member member, MemberSnapshot linked) {
+        if (linked != null) {
+            updateLinked(linked, member);
+            return;
+        }
+
+        memberRepository.upsertSocial(member);
+        if (member.getProviderId() != null) {
+            memberRepository.linkIdentityToUpserted(member.getProvider(), member.getProviderId());
+        }
+        readYourWritesTracker.recordWrite(member.getEmail());
+        memberCache.invalidate(member.getEmail());
+    }
+
+    // 조회 후 갱신 사이에 다른 가입이 이메일을 가져갈 수 있으므로 미리 조회하지 않고 unique 인덱스 충돌로 판단
+    private void updateLinked(MemberSnapshot linked, Member member) {
+        boolean emailChanged = !linked.email().equals(member.getEmail());
+        try {
+            memberRepository.updateSocialProfile(linked.id(), member);
+        } catch (DuplicateKeyException e) {
+            throw new CustomException(ErrorCode.EMAIL_ALREADY_EXISTS);
+        }
+        readYourWritesTracker.recordWrite(member.getEmail());
+        memberCache.invalidate(member.getEmail());
+        if (emailChanged) {
+            readYourWritesTracker.recordWrite(linked.email());
+            memberCache.invalidate(linked.email());
+        }
+    }
+
+    /**
+     * 이 서비스를 거치지 않고 저장된 회원(대량 가져오기)의 캐시를 비운다.
+     * 가져오기 전에 로그인을 시도해 캐시된 '없는 이메일' 이 negative-ttl 동안 남지 않도록 함
+     */
+    public void recordWrites(Collection<String> emails) {
+        emails.forEach(readYourWritesTracker::recordWrite);
+        memberCache.invalidateAll(emails);
+    }
+
+    // 로그인 시 더 높은 비용으로 다시 해싱한 경우. 비밀번호는 그대로이므로 보안 버전은 올리지 않음
+    @Transactional
+    public void rehashPassword(MemberSnapshot member, String encodedPassword) {
+        memberRepository.updatePassword(member.id(), encodedPassword);
+        readYourWritesTracker.recordWrite(member.email());
+        memberCache.invalidate(member.email());
+    }
+
+    /**
+     * 비밀번호 변경. 보안 버전을 함께 올려 기존 액세스 토큰을 무효화한다.
+     */
+    @Transactional
+    public void updatePassword(MemberSnapshot member, String encodedPassword) {
+        memberRepository.updatePassword(member.id(), encodedPassword);
+        incrementSecurityVersion(member);
+    }
+
+    /**
+     * 권한 변경. 이전 권한이 담긴 액세스 토큰이 계속 쓰이지 않도록 보안 버전을 함께 올린다.
+     */
+    @Transactional
+    public void updateRole(MemberSnapshot member, String role) {
+        memberRepository.updateRole(member.id(), role);
+        incrementSecurityVersion(member);
+    }
+
+    /**
+     * 보안 버전만 올린다 (계정 잠금, 강제 로그아웃).
+     */
+    @Transactional
+    public void incrementSecurityVersion(MemberSnapshot member) {
+        memberRepository.incrementSecurityVersion(member.id());
+        readYourWritesTracker.recordWrite(member.email());
+        memberCache.invalidate(member.email());
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1 @@
+ALTER TABLE member ADD COLUMN security_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,9 @@
+-- 소셜 로그인 제공자 계정 -> 회원 연결. (provider, provider_subject) 가 PK 라 콜백 한 번에 point query 하나로 조회
+CREATE TABLE member_identity (
+    provider VARCHAR(50) NOT NULL,
+    provider_subject VARCHAR(255) NOT NULL,
+    member_id BIGINT NOT NULL,
+    PRIMARY KEY (provider, provider_subject),
+    INDEX idx_member_identity_member_id (member_id),
+    CONSTRAINT fk_member_identity_member FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE
+);
@@ -1,6 +1,7 @@
 package wonjun.stiky.acceptance;
 
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.restdocs.cookies.CookieDocumentation.cookieWithName;
 import static org.springframework.restdocs.cookies.CookieDocumentation.requestCookies;
 import static org.springframework.restdocs.cookies.CookieDocumentation.responseCookies;
@@ -14,15 +15,17 @@ import com.epages.restdocs.apispec.ResourceSnippetParameters;
 import com.epages.restdocs.apispec.Schema;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import wonjun.stiky.auth.config.JwtClaims;
 import wonjun.stiky.auth.config.JwtTokenProvider;
+import wonjun.stiky.auth.config.LoginCodeCodec;
+import wonjun.stiky.auth.config.TokenRevocationList;
+import wonjun.stiky.auth.config.TokenStore;
 import wonjun.stiky.auth.controller.dto.TokenDto;
 import wonjun.stiky.member.domain.Member;
 import wonjun.stiky.member.repository.MemberRepository;
@@ -38,17 +41,29 @@ class AuthAcceptanceTest extends AcceptanceTestBase {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private TokenStore tokenStore;
+
+    @Autowired
+    private LoginCodeCodec loginCodeCodec;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
     @Test
     @DisplayName("OAuth2 인증 코드로 액세스 토큰 교환 API")
     void exchangeToken() throws Exception {
         // Given
-        String code = UUID.randomUUID().toString();
-        String expectedAccessToken = "mock-access-token-12345";
-        String expectedRefreshToken = "mock-refresh-token-67890"; // 리프레시 토큰 추가
+        Member member = Member.builder()
+                .email("exchange@example.com")
+                .nickname("교환유저")
+                .role("ROLE_USER")
+                .provider("google")
+                .build();
+        member.setId(memberRepository.save(member));
 
-        // 2. Redis에 인증 코드와 토큰 매핑 저장
-        redisTemplate.opsForValue().set("LOGIN_CODE:" + code, expectedAccessToken, 60, TimeUnit.SECONDS);
-        redisTemplate.opsForValue().set("LOGIN_CODE:" + code + ":RT", expectedRefreshToken, 60, TimeUnit.SECONDS);
+        // OAuth2SuccessHandler 가 리다이렉트 URL 에 붙이는 것과 같은 코드
+        String code = loginCodeCodec.issue(member.toPrincipal());
 
         Map<String, String> requestMap = new HashMap<>();
         requestMap.put("code", code);
@@ -59,9 +74,8 @@ class AuthAcceptanceTest extends AcceptanceTestBase {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(requestBody))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.accessToken").value(expectedAccessToken))
+                .andExpect(jsonPath("$.accessToken").exists())
                 .andExpect(cookie().exists("refresh_token")) // 쿠키 존재 여부 확인
-                .andExpect(cookie().value("refresh_token", expectedRefreshToken)) // 쿠키 값 확인
                 .andDo(document("auth-exchange-token",
                         resource(ResourceSnippetParameters.builder()
                                 .tag("Auth")
@@ -77,6 +91,36 @@ class AuthAcceptanceTest extends AcceptanceTestBase {
                                 )
                                 .build())
                 ));
+
+        // 같은 코드는 두 번 교환할 수 없음
+        mockMvc.perform(post("/api/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("OAuth2 인증 코드 교환 - 코드 발급 뒤 이메일이 바뀌어도 같은 회원으로 교환된다")
+    void exchangeTokenAfterEmailChange() throws Exception {
+        // Given
+        Member member = Member.builder()
+                .email("exchange-before@example.com")
+                .nickname("교환유저")
+                .role("ROLE_USER")
+                .provider("google")
+                .build();
+        member.setId(memberRepository.save(member));
+        String code = loginCodeCodec.issue(member.toPrincipal());
+
+        member.setEmail("exchange-after@example.com");
+        memberRepository.updateSocialProfile(member.getId(), member);
+
+        // When & Then
+        mockMvc.perform(post("/api/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("code", code))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").exists());
     }
 
     @Test
@@ -243,18 +287,19 @@ class AuthAcceptanceTest extends AcceptanceTestBase {
         String email = "reissue@example.com";
         String role = "ROLE_USER";
 
-        TokenDto tokenDto = jwtTokenProvider.generateToken(email, role);
-        String validRefreshToken = tokenDto.getRefreshToken();
-
-        redisTemplate.opsForValue().set("RT:" + email, validRefreshToken, 7, TimeUnit.DAYS);
-
-        memberRepository.save(Member.builder()
+        Member member = Member.builder()
                 .email(email)
                 .password("password")
                 .nickname("재발급유저")
                 .role(role)
                 .provider("local")
-                .build());
+                .build();
+        member.setId(memberRepository.save(member));
+
+        TokenDto tokenDto = jwtTokenProvider.generateToken(member.toPrincipal());
+        String validRefreshToken = tokenDto.getRefreshToken();
+
+        tokenStore.saveRefreshToken(member.getId(), validRefreshToken);
 
         // When & Then
         mockMvc.perform(post("/api/auth/reissue")
@@ -281,8 +326,24 @@ class AuthAcceptanceTest extends AcceptanceTestBase {
     @Test
     @DisplayName("로그아웃 API")
     void logout() throws Exception {
+        // Given
+        Member member = Member.builder()
+                .email("logout@example.com")
+                .password("password")
+                .nickname("로그아웃유저")
+                .role("ROLE_USER")
+                .provider("local")
+                .build();
+        member.setId(memberRepository.save(member));
+
+        TokenDto tokenDto = jwtTokenProvider.generateToken(member.toPrincipal());
+        tokenStore.saveRefreshToken(member.getId(), tokenDto.getRefreshToken());
+        JwtClaims accessClaims = jwtTokenProvider.verify(tokenDto.getAccessToken()).orElseThrow();
+
         // When & Then
         mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + tokenDto.getAccessToken())
+                        .cookie(new jakarta.servlet.http.Cookie("refresh_token", tokenDto.getRefreshToken()))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(cookie().maxAge("refresh_token", 0)) // 쿠키 삭제 확인
@@ -290,12 +351,15 @@ class AuthAcceptanceTest extends AcceptanceTestBase {
                         resource(ResourceSnippetParameters.builder()
                                 .tag("Auth")
                                 .summary("로그아웃")
-                                .description("사용자의 리프레시 토큰 쿠키를 삭제합니다.")
+                                .description("액세스 토큰을 폐기하고 리프레시 토큰과 쿠키를 삭제합니다.")
                                 .build()),
                         responseCookies(
                                 cookieWithName("refresh_token").description("삭제된 리프레시 토큰 (Max-Age: 0)")
                         )
                 ));
+
+        assertThat(tokenRevocationList.isRevoked(accessClaims)).isTrue();
+        assertThat(redisTemplate.hasKey("RT:" + member.getId())).isFalse();
     }
 
 }
\ No newline at end of file
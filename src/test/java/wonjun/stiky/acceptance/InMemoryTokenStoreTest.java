@@ -0,0 +1,128 @@
+package wonjun.stiky.acceptance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import wonjun.stiky.auth.config.InMemoryTokenStore;
+import wonjun.stiky.auth.config.TokenStore;
+import wonjun.stiky.global.exception.CustomException;
+import wonjun.stiky.global.exception.ErrorCode;
+
+@TestPropertySource(properties = {
+        "token-store.type=memory",
+        "token-store.memory.max-login-codes=16",
+        "token-store.memory.authorization-request-max-bytes=64"
+})
+class InMemoryTokenStoreTest extends AcceptanceTestBase {
+
+    @Autowired
+    private TokenStore tokenStore;
+
+    @Test
+    @DisplayName("token-store.type=memory 이면 프로세스 내 저장소를 사용한다")
+    void memoryBackendSelected() {
+        assertThat(tokenStore).isInstanceOf(InMemoryTokenStore.class);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 조회되지 않는다")
+    void expiredEntryIsAbsent() throws InterruptedException {
+        String state = UUID.randomUUID().toString();
+        byte[] request = {1, 2, 3};
+
+        tokenStore.saveAuthorizationRequest(state, request, Duration.ofMillis(100));
+        assertThat(tokenStore.loadAuthorizationRequest(state)).isEqualTo(request);
+
+        Thread.sleep(200);
+
+        assertThat(tokenStore.loadAuthorizationRequest(state)).isNull();
+        assertThat(tokenStore.removeAuthorizationRequest(state)).isNull();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰을 다시 저장하면 이전 토큰으로는 재발급할 수 없다")
+    void overwriteReplacesRefreshToken() {
+        Long memberId = System.nanoTime();
+
+        tokenStore.saveRefreshToken(memberId, "first");
+        tokenStore.saveRefreshToken(memberId, "second");
+
+        assertThat(tokenStore.rotateRefreshToken(memberId, "memory@example.com", "first", "third")).isFalse();
+        assertThat(tokenStore.rotateRefreshToken(memberId, "memory@example.com", "second", "third")).isTrue();
+        assertThat(tokenStore.rotateRefreshToken(memberId, "memory@example.com", "second", "fourth")).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 로그인 코드를 동시에 사용해도 한 번만 성공한다")
+    void claimOnceUnderContention() throws Exception {
+        String codeId = UUID.randomUUID().toString();
+        int threads = 32;
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return tokenStore.claimLoginCode(codeId, Duration.ofMinutes(1));
+                }));
+            }
+            start.countDown();
+
+            int claimed = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(10, TimeUnit.SECONDS)) {
+                    claimed++;
+                }
+            }
+            assertThat(claimed).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("슬롯이 모두 차면 TOKEN_STORE_FULL 을 던지고, 만료되면 다시 저장할 수 있다")
+    void fullCapacity() throws InterruptedException {
+        // 다른 테스트가 남긴 코드가 있을 수 있으므로 찰 때까지 채움
+        assertThatThrownBy(() -> {
+            for (int i = 0; i <= 16; i++) {
+                tokenStore.claimLoginCode(UUID.randomUUID().toString(), Duration.ofMillis(200));
+            }
+        })
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOKEN_STORE_FULL);
+
+        Thread.sleep(300);
+
+        assertThat(tokenStore.claimLoginCode(UUID.randomUUID().toString(), Duration.ofMinutes(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("슬롯보다 큰 값은 TOKEN_STORE_ENTRY_TOO_LARGE 로 거부하고 기존 값을 유지한다")
+    void oversizeValueRejected() {
+        String state = UUID.randomUUID().toString();
+        byte[] request = {1, 2, 3};
+        tokenStore.saveAuthorizationRequest(state, request, Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> tokenStore.saveAuthorizationRequest(state, new byte[65], Duration.ofMinutes(1)))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOKEN_STORE_ENTRY_TOO_LARGE);
+
+        assertThat(tokenStore.removeAuthorizationRequest(state)).isEqualTo(request);
+    }
+
+}
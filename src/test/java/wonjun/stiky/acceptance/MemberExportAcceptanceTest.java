@@ -0,0 +1,73 @@
+package wonjun.stiky.acceptance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import wonjun.stiky.auth.config.JwtTokenProvider;
+import wonjun.stiky.member.domain.Member;
+import wonjun.stiky.member.repository.MemberRepository;
+
+class MemberExportAcceptanceTest extends AcceptanceTestBase {
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("관리자는 선택한 컬럼만 gzip CSV 로 내보낼 수 있다")
+    void exportCsv() throws Exception {
+        // Given
+        Member admin = saveMember("export-admin@example.com", "ROLE_ADMIN");
+        saveMember("export-user@example.com", "ROLE_USER");
+        String accessToken = jwtTokenProvider.generateToken(admin.toPrincipal()).getAccessToken();
+
+        // When
+        byte[] body = mockMvc.perform(get("/api/admin/members/export")
+                        .param("format", "csv")
+                        .param("columns", "email,role")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        String csv;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(csv).startsWith("email,role\n");
+        assertThat(csv).contains("export-user@example.com,ROLE_USER\n");
+    }
+
+    @Test
+    @DisplayName("일반 회원은 내보내기에 접근할 수 없다")
+    void exportForbiddenForUser() throws Exception {
+        Member user = saveMember("export-forbidden@example.com", "ROLE_USER");
+        String accessToken = jwtTokenProvider.generateToken(user.toPrincipal()).getAccessToken();
+
+        mockMvc.perform(get("/api/admin/members/export")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private Member saveMember(String email, String role) {
+        Member member = Member.builder()
+                .email(email)
+                .password("password")
+                .nickname("내보내기")
+                .role(role)
+                .provider("local")
+                .build();
+        member.setId(memberRepository.save(member));
+        return member;
+    }
+
+}
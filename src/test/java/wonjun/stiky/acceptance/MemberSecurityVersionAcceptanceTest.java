@@ -0,0 +1,96 @@
+package wonjun.stiky.acceptance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import wonjun.stiky.auth.config.CustomUserDetailsService;
+import wonjun.stiky.auth.config.JwtTokenProvider;
+import wonjun.stiky.auth.config.TokenStore;
+import wonjun.stiky.auth.controller.dto.TokenDto;
+import wonjun.stiky.auth.service.AuthService;
+import wonjun.stiky.auth.service.MemberSecurityService;
+import wonjun.stiky.global.exception.CustomException;
+import wonjun.stiky.global.exception.ErrorCode;
+import wonjun.stiky.member.domain.Member;
+import wonjun.stiky.member.domain.MemberSnapshot;
+import wonjun.stiky.member.service.MemberQueryService;
+
+class MemberSecurityVersionAcceptanceTest extends AcceptanceTestBase {
+
+    @Autowired
+    private MemberQueryService memberQueryService;
+
+    @Autowired
+    private MemberSecurityService memberSecurityService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private TokenStore tokenStore;
+
+    @Autowired
+    private AuthService authService;
+
+    @Test
+    @DisplayName("권한을 바꾸면 이전 액세스 토큰은 거부되고 새로 발급한 토큰은 허용된다")
+    void roleChangeRejectsOldAccessToken() {
+        // Given
+        MemberSnapshot member = saveMember("sv-role@example.com");
+        String oldToken = jwtTokenProvider.generateToken(member.principal()).getAccessToken();
+        assertThat(authenticate(oldToken)).isTrue(); // 보안 버전 캐시에 현재 버전을 올려 둠
+
+        // When
+        memberSecurityService.changeRole(member, "ROLE_ADMIN");
+
+        // Then
+        MemberSnapshot changed = memberQueryService.fetchByEmail("sv-role@example.com");
+        assertThat(changed.securityVersion()).isEqualTo(member.securityVersion() + 1);
+        assertThat(authenticate(oldToken)).isFalse();
+        assertThat(authenticate(jwtTokenProvider.generateToken(changed.principal()).getAccessToken())).isTrue();
+    }
+
+    @Test
+    @DisplayName("토큰을 폐기하면 이전 액세스 토큰이 거부되고 리프레시 토큰으로 재발급할 수 없다")
+    void revokeRejectsOldTokens() {
+        // Given
+        MemberSnapshot member = saveMember("sv-revoke@example.com");
+        TokenDto tokens = jwtTokenProvider.generateToken(member.principal());
+        tokenStore.saveRefreshToken(member.id(), tokens.getRefreshToken());
+        assertThat(authenticate(tokens.getAccessToken())).isTrue();
+
+        // When
+        memberSecurityService.revokeTokens(member);
+
+        // Then
+        assertThat(authenticate(tokens.getAccessToken())).isFalse();
+        assertThatThrownBy(() -> authService.reissue(tokens.getRefreshToken()))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    private boolean authenticate(String accessToken) {
+        return jwtTokenProvider.verify(accessToken)
+                .flatMap(customUserDetailsService::loadUserByClaims)
+                .isPresent();
+    }
+
+    private MemberSnapshot saveMember(String email) {
+        memberQueryService.save(Member.builder()
+                .email(email)
+                .password("password")
+                .nickname("보안버전")
+                .role("ROLE_USER")
+                .provider("local")
+                .build());
+        return memberQueryService.fetchByEmail(email);
+    }
+
+}
@@ -0,0 +1,96 @@
+package wonjun.stiky.acceptance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import wonjun.stiky.global.redis.RedisNearCache;
+
+@TestPropertySource(properties = {
+        "redis.near-cache.enabled=true",
+        "redis.near-cache.prefixes=NEAR_TEST:"
+})
+class RedisNearCacheTest extends AcceptanceTestBase {
+
+    @Autowired
+    private RedisNearCache redisNearCache;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Test
+    @DisplayName("트래킹 대상 키는 두 번째 조회부터 로컬 캐시에서 읽고, 다른 연결의 쓰기로 무효화된다")
+    void invalidatedByWrite() throws InterruptedException {
+        String key = "NEAR_TEST:token";
+        redisTemplate.opsForValue().set(key, "v1");
+        CountingLoader loader = new CountingLoader();
+
+        assertThat(redisNearCache.get(key, loader)).isEqualTo("v1");
+        assertThat(redisNearCache.get(key, loader)).isEqualTo("v1");
+        assertThat(loader.calls.get()).isEqualTo(1);
+
+        redisTemplate.opsForValue().set(key, "v2");
+
+        assertThat(awaitValue(key, loader, "v2")).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("없는 키도 캐싱하고, 키가 생기면 무효화된다")
+    void absentKeyInvalidatedOnCreate() throws InterruptedException {
+        String key = "NEAR_TEST:absent";
+        redisTemplate.delete(key);
+        CountingLoader loader = new CountingLoader();
+
+        assertThat(redisNearCache.get(key, loader)).isNull();
+        assertThat(redisNearCache.get(key, loader)).isNull();
+        assertThat(loader.calls.get()).isEqualTo(1);
+
+        redisTemplate.opsForValue().set(key, "created");
+
+        assertThat(awaitValue(key, loader, "created")).isEqualTo("created");
+    }
+
+    @Test
+    @DisplayName("트래킹 대상이 아닌 키는 매번 Redis 에서 읽는다")
+    void untrackedPrefix() {
+        String key = "OTHER:token";
+        redisTemplate.opsForValue().set(key, "v1");
+        CountingLoader loader = new CountingLoader();
+
+        redisNearCache.get(key, loader);
+        redisNearCache.get(key, loader);
+
+        assertThat(loader.calls.get()).isEqualTo(2);
+    }
+
+    // 무효화 메시지는 별도 연결로 비동기 도착하므로 잠시 기다림
+    private String awaitValue(String key, CountingLoader loader, String expected) throws InterruptedException {
+        String value = null;
+        for (int i = 0; i < 50; i++) {
+            value = redisNearCache.get(key, loader);
+            if (expected.equals(value)) {
+                return value;
+            }
+            Thread.sleep(20);
+        }
+        return value;
+    }
+
+    private class CountingLoader implements Function<String, String> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String apply(String key) {
+            calls.incrementAndGet();
+            return (String) redisTemplate.opsForValue().get(key);
+        }
+
+    }
+
+}
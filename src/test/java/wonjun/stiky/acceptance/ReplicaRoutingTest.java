@@ -0,0 +1,176 @@
+package wonjun.stiky.acceptance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static wonjun.stiky.generated.Tables.MEMBER;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
+import wonjun.stiky.global.datasource.ReplicaLagMonitor;
+import wonjun.stiky.member.domain.Member;
+import wonjun.stiky.member.service.MemberQueryService;
+
+/**
+ * GTID 복제로 연결한 MySQL 두 대(primary, replica)로 라우팅을 확인
+ */
+@SpringBootTest
+class ReplicaRoutingTest {
+
+    private static final Network NETWORK = Network.newNetwork();
+
+    static MySQLContainer<?> primary = new MySQLContainer<>("mysql:8.0")
+            .withNetwork(NETWORK)
+            .withNetworkAliases("primary")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test")
+            .withCommand("--server-id=1", "--gtid-mode=ON", "--enforce-gtid-consistency=ON");
+
+    static MySQLContainer<?> replica = new MySQLContainer<>("mysql:8.0")
+            .withNetwork(NETWORK)
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test")
+            .withCommand("--server-id=2", "--gtid-mode=ON", "--enforce-gtid-consistency=ON", "--read-only=ON");
+
+    static GenericContainer<?> redis = new GenericContainer<>("redis:latest")
+            .withExposedPorts(6379);
+
+    @Autowired
+    private DSLContext dsl;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MemberQueryService memberQueryService;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) throws SQLException {
+        primary.start();
+        replica.start();
+        redis.start();
+        startReplication();
+
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("datasource.replica.enabled", () -> "true");
+        registry.add("datasource.replica.url", replica::getJdbcUrl);
+        registry.add("datasource.replica.username", () -> "root");
+        registry.add("datasource.replica.password", replica::getPassword);
+        registry.add("datasource.replica.lag-check-interval", () -> "1h"); // 테스트에서 직접 호출
+
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+
+        registry.add("jwt.secret", () -> "VGhpcyBpcyBhIGRhbW4gbG9uZyBzZWNyZXQga2V5IGZvciB0ZXN0aW5nIG9ubHk=");
+        registry.add("spring.security.oauth2.client.registration.google.client-id", () -> "test-client-id");
+        registry.add("spring.security.oauth2.client.registration.google.client-secret", () -> "test-client-secret");
+        registry.add("openapi.server-url", () -> "http://localhost:8080");
+        registry.add("openapi.client-url", () -> "http://localhost:5173");
+        registry.add("cors.allowed-origins", () -> "http://localhost:5173");
+        registry.add("cookie.domain", () -> "localhost");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary 로 간다")
+    void routesByReadOnly() {
+        assertThat(serverId(true)).isEqualTo(2);
+        assertThat(serverId(false)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제가 멈춰도 방금 쓴 회원은 primary 에서 읽고, 지연 확인 후에는 replica 를 제외한다")
+    void readYourWritesAndLagFallback() throws SQLException {
+        execute(replica, "STOP REPLICA SQL_THREAD");
+        try {
+            Member member = Member.builder()
+                    .email("replica-lag@example.com")
+                    .password("password")
+                    .nickname("복제지연")
+                    .role("ROLE_USER")
+                    .provider("local")
+                    .build();
+            memberQueryService.save(member);
+
+            // replica 에는 아직 없지만 자신이 쓴 회원은 primary 에서 읽음
+            assertThat(countOnReadOnly("replica-lag@example.com")).isZero();
+            assertThat(memberQueryService.fetchByEmailOpt("replica-lag@example.com")).isPresent();
+
+            // 복제가 멈추면 지연을 알 수 없으므로 replica 를 라우팅에서 제외
+            replicaLagMonitor.check();
+            assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+            assertThat(serverId(true)).isEqualTo(1);
+        } finally {
+            execute(replica, "START REPLICA SQL_THREAD");
+            replicaLagMonitor.check();
+        }
+    }
+
+    private int serverId(boolean readOnly) {
+        return transactionTemplate(readOnly).execute(status ->
+                dsl.select(DSL.field("@@server_id", Integer.class)).fetchOne().value1());
+    }
+
+    private int countOnReadOnly(String email) {
+        return transactionTemplate(true).execute(status ->
+                dsl.fetchCount(MEMBER, MEMBER.EMAIL.eq(email)));
+    }
+
+    private TransactionTemplate transactionTemplate(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    // 두 컨테이너 모두 같은 초기 스키마(testdb, test 계정)로 시작하므로 지금 시점의 primary GTID 이후부터 복제
+    private static void startReplication() throws SQLException {
+        execute(primary, "CREATE USER IF NOT EXISTS 'repl'@'%' IDENTIFIED WITH mysql_native_password BY 'repl'");
+        execute(primary, "GRANT REPLICATION SLAVE ON *.* TO 'repl'@'%'");
+
+        String executed = queryString(primary, "SELECT @@GLOBAL.gtid_executed");
+        execute(replica, "RESET MASTER");
+        execute(replica, "SET GLOBAL gtid_purged = '" + executed + "'");
+        execute(replica, "CHANGE REPLICATION SOURCE TO SOURCE_HOST='primary', SOURCE_PORT=3306, "
+                + "SOURCE_USER='repl', SOURCE_PASSWORD='repl', SOURCE_AUTO_POSITION=1");
+        execute(replica, "START REPLICA");
+    }
+
+    private static String queryString(MySQLContainer<?> container, String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(container.getJdbcUrl(), "root",
+                container.getPassword());
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static void execute(MySQLContainer<?> container, String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(container.getJdbcUrl(), "root",
+                container.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+}
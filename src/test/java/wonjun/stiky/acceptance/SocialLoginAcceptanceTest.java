@@ -0,0 +1,124 @@
+package wonjun.stiky.acceptance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import wonjun.stiky.global.exception.CustomException;
+import wonjun.stiky.global.exception.ErrorCode;
+import wonjun.stiky.member.domain.Member;
+import wonjun.stiky.member.domain.MemberSnapshot;
+import wonjun.stiky.member.repository.MemberRepository;
+import wonjun.stiky.member.service.MemberQueryService;
+
+class SocialLoginAcceptanceTest extends AcceptanceTestBase {
+
+    @Autowired
+    private MemberQueryService memberQueryService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("제공자 쪽 이메일이 바뀌어도 같은 회원의 이메일만 갱신되고 새 회원은 생기지 않는다")
+    void emailChangedAtProvider() {
+        // Given
+        String subject = UUID.randomUUID().toString();
+        String oldEmail = "social-old-" + subject + "@example.com";
+        String newEmail = "social-new-" + subject + "@example.com";
+        login(oldEmail, subject);
+        MemberSnapshot original = memberRepository.findBySocialIdentity("google", subject).orElseThrow();
+
+        // 로그인 이후 바꾼 권한·닉네임이 유지되는지 확인하기 위해 변경
+        memberRepository.save(Member.builder()
+                .id(original.id())
+                .email(oldEmail)
+                .password("password")
+                .nickname("앱닉네임")
+                .role("ROLE_ADMIN")
+                .provider(original.provider())
+                .providerId(original.providerId())
+                .build());
+
+        // When
+        login(newEmail, subject);
+
+        // Then
+        MemberSnapshot linked = memberRepository.findBySocialIdentity("google", subject).orElseThrow();
+        assertThat(linked.id()).isEqualTo(original.id());
+        assertThat(linked.email()).isEqualTo(newEmail);
+        assertThat(linked.role()).isEqualTo("ROLE_ADMIN");
+        assertThat(linked.nickname()).isEqualTo("앱닉네임");
+        assertThat(memberRepository.findByEmail(oldEmail)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제공자 쪽에서 바뀐 이메일을 다른 회원이 쓰고 있으면 EMAIL_ALREADY_EXISTS 로 거부하고 기존 연결을 유지한다")
+    void changedEmailTakenByAnotherMember() {
+        // Given
+        String subject = UUID.randomUUID().toString();
+        String oldEmail = "social-old-" + subject + "@example.com";
+        String takenEmail = "social-taken-" + subject + "@example.com";
+        login(oldEmail, subject);
+        memberRepository.save(Member.builder()
+                .email(takenEmail)
+                .password("password")
+                .nickname("다른회원")
+                .role("ROLE_USER")
+                .provider("local")
+                .build());
+
+        // When & Then
+        assertThatThrownBy(() -> login(takenEmail, subject))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EMAIL_ALREADY_EXISTS);
+        assertThat(memberRepository.findBySocialIdentity("google", subject).orElseThrow().email())
+                .isEqualTo(oldEmail);
+    }
+
+    @Test
+    @DisplayName("연결 정보가 없는 기존 회원은 첫 소셜 로그인 때 이메일로 찾아 연결된다")
+    void legacyMemberLinkedOnFirstLogin() {
+        // Given: member_identity 도입 전처럼 provider_id 에 속성 이름만 있는 회원
+        String subject = UUID.randomUUID().toString();
+        String email = "social-legacy-" + subject + "@example.com";
+        Long id = memberRepository.save(Member.builder()
+                .email(email)
+                .password("password")
+                .nickname("레거시")
+                .role("ROLE_USER")
+                .provider("google")
+                .providerId("sub")
+                .build());
+
+        // When
+        login(email, subject);
+
+        // Then
+        MemberSnapshot linked = memberRepository.findBySocialIdentity("google", subject).orElseThrow();
+        assertThat(linked.id()).isEqualTo(id);
+        assertThat(linked.providerId()).isEqualTo(subject);
+    }
+
+    // CustomOAuth2UserService.process 와 같은 순서로 연결 회원을 찾아 넘김
+    private void login(String email, String subject) {
+        memberQueryService.upsertSocial(socialMember(email, subject),
+                memberQueryService.fetchBySocialIdentity("google", subject).orElse(null));
+    }
+
+    private Member socialMember(String email, String subject) {
+        return Member.builder()
+                .email(email)
+                .nickname("소셜유저")
+                .password(UUID.randomUUID().toString())
+                .role("ROLE_USER")
+                .provider("google")
+                .providerId(subject)
+                .build();
+    }
+
+}
@@ -0,0 +1,92 @@
+package wonjun.stiky.acceptance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import wonjun.stiky.auth.config.JwtTokenProvider;
+import wonjun.stiky.member.domain.Member;
+import wonjun.stiky.member.repository.MemberRepository;
+
+class VirtualThreadPinningTest extends AcceptanceTestBase {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("JWT, jOOQ, Redis 경로는 가상 스레드의 캐리어 스레드를 고정(pinning)하지 않는다")
+    void noCarrierPinning() throws Exception {
+        // Given
+        String email = "pinning-" + UUID.randomUUID() + "@example.com";
+        Member member = Member.builder()
+                .email(email)
+                .password("password")
+                .nickname("피닝")
+                .role("ROLE_USER")
+                .provider("local")
+                .build();
+        member.setId(memberRepository.save(member));
+
+        runHotPaths(member); // 연결 초기화 등 최초 1회 비용은 측정에서 제외
+
+        List<RecordedEvent> pinnedEvents = new CopyOnWriteArrayList<>();
+
+        // When
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent(PINNED_EVENT, pinnedEvents::add);
+            recording.startAsync();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    futures.add(executor.submit(() -> runHotPaths(member)));
+                }
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+            }
+
+            recording.stop();
+        }
+
+        // Then
+        assertThat(pinnedEvents)
+                .as("pinned frames: %s", pinnedEvents.stream().map(RecordedEvent::getStackTrace).toList())
+                .isEmpty();
+    }
+
+    private void runHotPaths(Member member) {
+        String accessToken = jwtTokenProvider.generateToken(member.toPrincipal()).getAccessToken();
+        jwtTokenProvider.verify(accessToken);
+
+        memberRepository.findByEmail(member.getEmail());
+
+        String key = "PINNING:" + UUID.randomUUID();
+        redisTemplate.opsForValue().set(key, accessToken, 10, TimeUnit.SECONDS);
+        redisTemplate.opsForValue().get(key);
+        redisTemplate.delete(key);
+    }
+
+}